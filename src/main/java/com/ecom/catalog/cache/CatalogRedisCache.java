@@ -0,0 +1,329 @@
+package com.ecom.catalog.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis-backed L2 cache shared by all catalog replicas
+ *
+ * <p>Sits behind the in-process caches: a cold pod or a newly scaled replica reads
+ * pre-serialized JSON from Redis instead of going to Postgres. Values are stored as
+ * JSON strings produced by the application ObjectMapper, under versioned keys
+ * ({@code catalog:v1:...}) so the value format can change without flushing Redis.
+ *
+ * <p>Redis is strictly optional for reads. Any Redis error (including command
+ * timeouts, see {@code spring.data.redis.timeout}) is logged and treated as a miss,
+ * and the L2 tier is bypassed for a short back-off period so a slow or unavailable
+ * Redis never adds latency to every request.
+ *
+ * <p>Read-through callers that load from the database use {@link #generation} and
+ * {@link #putIfGeneration}: every eviction bumps a per-key generation, and a value
+ * loaded before an eviction (on any replica) is not written back over it.
+ */
+@Component
+@Slf4j
+public class CatalogRedisCache {
+
+    private static final String KEY_PREFIX = "catalog:v1:";
+
+    /**
+     * SET the value only if the key's generation is still the one read before loading it
+     */
+    private static final RedisScript<Long> PUT_IF_GENERATION = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then return 0 end "
+            + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) return 1",
+        Long.class);
+
+    /**
+     * Read (ARGV[2] = 1: increment) a counter hash, giving it the epoch ARGV[1] if it has none
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> EPOCH_COUNTER = new DefaultRedisScript<>(
+        "redis.call('HSETNX', KEYS[1], 'epoch', ARGV[1]) "
+            + "if ARGV[2] == '1' then redis.call('HINCRBY', KEYS[1], 'n', 1) end "
+            + "return redis.call('HMGET', KEYS[1], 'epoch', 'n')",
+        List.class);
+
+    /**
+     * DEL each value and bump its generation (KEYS: value, generation, value, generation, ...)
+     */
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+        "for i = 1, #KEYS, 2 do "
+            + "redis.call('DEL', KEYS[i]) "
+            + "redis.call('INCR', KEYS[i + 1]) "
+            + "redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) "
+            + "end return 0",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration failureBackoff;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    /**
+     * Epoch millis until which Redis is bypassed after a failure
+     */
+    private volatile long bypassUntil = 0L;
+
+    public CatalogRedisCache(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.cache.redis.enabled:true}") boolean enabled,
+            @Value("${catalog.cache.redis.ttl:PT30M}") Duration ttl,
+            @Value("${catalog.cache.redis.failure-backoff:PT30S}") Duration failureBackoff) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.failureBackoff = failureBackoff;
+        this.hitCounter = meterRegistry.counter("catalog.cache.redis.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("catalog.cache.redis.requests", "result", "miss");
+        this.errorCounter = meterRegistry.counter("catalog.cache.redis.errors");
+    }
+
+    /**
+     * Key for a cached ProductResponse
+     */
+    public static String productKey(UUID tenantId, UUID productId) {
+        return KEY_PREFIX + "product:" + tenantId + ":" + productId;
+    }
+
+    /**
+     * Key for a cached CategoryResponse
+     */
+    public static String categoryKey(UUID tenantId, UUID categoryId) {
+        return KEY_PREFIX + "category:" + tenantId + ":" + categoryId;
+    }
+
+    /**
+     * Key for a tenant's catalog version (an epoch counter, see {@link #epochCounter})
+     */
+    public static String versionKey(UUID tenantId) {
+        return KEY_PREFIX + "catalog-version:" + tenantId;
+    }
+
+    /**
+     * Key holding the invalidation generation of a cached value
+     */
+    private static String generationKey(String key) {
+        return key + ":gen";
+    }
+
+    /**
+     * Read and deserialize a value; empty on miss, on error, or while Redis is bypassed
+     */
+    public <T> Optional<T> get(String key, Class<T> type) {
+        if (!isAvailable()) {
+            return Optional.empty();
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            hitCounter.increment();
+            return Optional.of(objectMapper.readValue(json, type));
+        } catch (Exception e) {
+            onFailure("get", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Read and deserialize many values in one round trip (MGET); only hits are returned,
+     * and nothing on error or while Redis is bypassed
+     */
+    public <T> Map<String, T> getAll(List<String> keys, Class<T> type) {
+        if (!isAvailable() || keys.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            Map<String, T> hits = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                String json = values != null ? values.get(i) : null;
+                if (json != null) {
+                    hits.put(keys.get(i), objectMapper.readValue(json, type));
+                }
+            }
+            hitCounter.increment(hits.size());
+            missCounter.increment(keys.size() - hits.size());
+            return hits;
+        } catch (Exception e) {
+            onFailure("multiGet", keys.size() + " keys", e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Serialize and store a value with the configured TTL
+     */
+    public void put(String key, Object value) {
+        if (!isAvailable() || value == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            onFailure("put", key, e);
+        }
+    }
+
+    /**
+     * Invalidation generation of a cached value (0 if never evicted), read before loading
+     * the value from the database; empty on error or while Redis is bypassed
+     */
+    public Optional<Long> generation(String key) {
+        return getCounter(generationKey(key));
+    }
+
+    /**
+     * Invalidation generations of many cached values in one round trip (MGET), in key
+     * order; empty on error or while Redis is bypassed
+     */
+    public Optional<List<Long>> generations(List<String> keys) {
+        if (!isAvailable() || keys.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                .multiGet(keys.stream().map(CatalogRedisCache::generationKey).toList());
+            List<Long> generations = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                generations.add(value != null ? Long.parseLong(value) : 0L);
+            }
+            return Optional.of(generations);
+        } catch (Exception e) {
+            onFailure("multiGet", keys.size() + " generation keys", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store a value loaded from the database unless the key was evicted since
+     * {@code generation} was read
+     *
+     * <p>Closes the read-through race where a loader reads a row, the row is updated and
+     * evicted, and the loader then writes the old row back for the full TTL.
+     */
+    public void putIfGeneration(String key, Object value, long generation) {
+        if (!isAvailable() || value == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_IF_GENERATION, List.of(key, generationKey(key)),
+                objectMapper.writeValueAsString(value), Long.toString(generation), Long.toString(ttl.toMillis()));
+        } catch (Exception e) {
+            onFailure("put", key, e);
+        }
+    }
+
+    /**
+     * Read a counter value; empty on error or while Redis is bypassed, 0 if the key is absent
+     */
+    public Optional<Long> getCounter(String key) {
+        if (!isAvailable()) {
+            return Optional.empty();
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return Optional.of(value != null ? Long.parseLong(value) : 0L);
+        } catch (Exception e) {
+            onFailure("get", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Counter value tagged with the epoch of the hash holding it
+     */
+    public record EpochCounter(String epoch, long value) {
+    }
+
+    /**
+     * Read or atomically increment an epoch counter
+     *
+     * <p>The counter is stored in a hash together with a random epoch that is set when the
+     * hash is created. If the key is lost (eviction, flush, failover to an empty replica)
+     * the counter restarts under a new epoch, so (epoch, value) never repeats.
+     *
+     * <p>Empty on error. Reads return empty while Redis is bypassed; like eviction,
+     * increments are attempted even then.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<EpochCounter> epochCounter(String key, boolean increment) {
+        if (increment ? !enabled : !isAvailable()) {
+            return Optional.empty();
+        }
+        try {
+            List<Object> values = redisTemplate.execute(
+                EPOCH_COUNTER, List.of(key), UUID.randomUUID().toString(), increment ? "1" : "0");
+            if (values == null || values.size() != 2 || values.get(0) == null) {
+                return Optional.empty();
+            }
+            Object value = values.get(1);
+            return Optional.of(new EpochCounter(
+                values.get(0).toString(), value != null ? Long.parseLong(value.toString()) : 0L));
+        } catch (Exception e) {
+            onFailure(increment ? "increment" : "get", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Delete keys and bump their generations
+     *
+     * <p>Invalidation is attempted even while reads are bypassed; entries that cannot be
+     * deleted still expire with the TTL. Generations live as long as a value, so they
+     * outlast any load that started before the eviction.
+     */
+    public void evict(Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> scriptKeys = new ArrayList<>(keys.size() * 2);
+            for (String key : keys) {
+                scriptKeys.add(key);
+                scriptKeys.add(generationKey(key));
+            }
+            redisTemplate.execute(EVICT, scriptKeys, Long.toString(ttl.toMillis()));
+        } catch (Exception e) {
+            onFailure("evict", keys.toString(), e);
+        }
+    }
+
+    private boolean isAvailable() {
+        return enabled && System.currentTimeMillis() >= bypassUntil;
+    }
+
+    private void onFailure(String operation, String key, Exception e) {
+        errorCounter.increment();
+        bypassUntil = System.currentTimeMillis() + failureBackoff.toMillis();
+        log.warn("Redis cache {} failed for {}; bypassing L2 cache for {}: {}",
+            operation, key, failureBackoff, e.getMessage());
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecom.catalog.cache;
+
+/**
+ * A tenant's catalog version: a counter and the epoch it counts in
+ *
+ * <p>A counter restarts under a new epoch (lost Redis key, or a process-local fallback
+ * counter), so two versions are the same only if both parts are equal.
+ */
+public record CatalogVersion(
+    /**
+     * Identifies the counter: the Redis epoch, or a per-process ID for the local fallback
+     */
+    String epoch,
+
+    /**
+     * Number of category changes counted in this epoch
+     */
+    long counter,
+
+    /**
+     * Whether the version comes from the shared (Redis) counter that all replicas bump;
+     * a local fallback version does not see other replicas' writes
+     */
+    boolean shared
+) {
+    /**
+     * Compact token for validators (e.g. ETags)
+     */
+    public String tag() {
+        return epoch + "." + counter;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecom.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant catalog version
+ *
+ * <p>The version is bumped whenever a tenant's category structure changes. Derived
+ * read models (the category tree snapshot) are tagged with the version they were built
+ * from and are rebuilt only when the version moves.
+ *
+ * <p>The authoritative counter lives in Redis so all replicas observe bumps. Reads are
+ * cached locally for a short refresh interval, which bounds cross-replica staleness
+ * without a Redis round trip per request. The counter is tagged with an epoch that
+ * changes if the Redis key is lost, so a restarted counter never repeats an old version.
+ *
+ * <p>If Redis is unavailable a local counter is used under a per-process epoch, so the
+ * replica that performed a write always sees its own change. Such versions are marked
+ * as not shared: other replicas' writes are not counted, so they must not be used to
+ * answer 304 Not Modified. A bump that could not reach Redis is retried on the next
+ * successful read, so other replicas do not keep serving the version from before it.
+ */
+@Component
+@Slf4j
+public class CatalogVersionService {
+
+    /**
+     * Epoch of the local fallback counters; unique per process
+     */
+    private final String localEpoch = "local-" + UUID.randomUUID();
+
+    private final CatalogRedisCache redisCache;
+    private final Cache<UUID, CatalogVersion> versions;
+    private final Map<UUID, AtomicLong> localVersions = new ConcurrentHashMap<>();
+    private final Set<UUID> unsharedBumps = ConcurrentHashMap.newKeySet();
+
+    public CatalogVersionService(
+            CatalogRedisCache redisCache,
+            @Value("${catalog.cache.version.refresh-interval:PT2S}") Duration refreshInterval) {
+        this.redisCache = redisCache;
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(refreshInterval)
+            .build();
+    }
+
+    /**
+     * Current catalog version for a tenant
+     */
+    public CatalogVersion currentVersion(UUID tenantId) {
+        return versions.get(tenantId, this::loadVersion);
+    }
+
+    /**
+     * Advance the catalog version for a tenant
+     *
+     * @return the new version
+     */
+    public CatalogVersion bump(UUID tenantId) {
+        long local = localVersions.computeIfAbsent(tenantId, id -> new AtomicLong()).incrementAndGet();
+        CatalogVersion version = redisCache.epochCounter(CatalogRedisCache.versionKey(tenantId), true)
+            .map(shared -> new CatalogVersion(shared.epoch(), shared.value(), true))
+            .orElseGet(() -> {
+                unsharedBumps.add(tenantId);
+                return new CatalogVersion(localEpoch, local, false);
+            });
+        versions.put(tenantId, version);
+        log.debug("Bumped catalog version for tenant {} to {}", tenantId, version);
+        return version;
+    }
+
+    private CatalogVersion loadVersion(UUID tenantId) {
+        // Replay a bump that missed Redis before trusting the shared counter again
+        boolean increment = unsharedBumps.remove(tenantId);
+        return redisCache.epochCounter(CatalogRedisCache.versionKey(tenantId), increment)
+            .map(shared -> new CatalogVersion(shared.epoch(), shared.value(), true))
+            .orElseGet(() -> {
+                if (increment) {
+                    unsharedBumps.add(tenantId);
+                }
+                long local = localVersions.computeIfAbsent(tenantId, id -> new AtomicLong()).get();
+                return new CatalogVersion(localEpoch, local, false);
+            });
+    }
+}
@@ -0,0 +1,140 @@
+package com.ecom.catalog.cache;
+
+import com.ecom.catalog.model.event.CategoryChangedEvent;
+import com.ecom.catalog.model.response.CategoryResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for category reads
+ *
+ * <p>Single categories are shared across replicas through {@link CatalogRedisCache}.
+ * The tree and flat list are served from a per-tenant {@link CategoryTreeSnapshot}
+ * kept in memory and rebuilt only when the tenant's catalog version changes; a maximum
+ * snapshot age bounds staleness if a version bump is ever lost.
+ *
+ * <p>Lookups for categories that do not exist are remembered locally in a short-TTL
+ * negative cache.
+ *
+ * <p>A load that read the row before an eviction must not write it back afterwards:
+ * the Redis generation is captured before loading and the value is stored with
+ * {@link CatalogRedisCache#putIfGeneration}. Negative entries are guarded the same way
+ * by a local invalidation counter.
+ *
+ * <p>On {@link CategoryChangedEvent} (after the writing transaction commits) the
+ * changed entries are evicted and the tenant's catalog version is bumped.
+ */
+@Component
+@Slf4j
+public class CategoryCache {
+
+    private final CatalogRedisCache redisCache;
+    private final CatalogVersionService versionService;
+    private final Cache<UUID, CategoryTreeSnapshot> snapshots;
+    private final Cache<String, Boolean> notFound;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CategoryCache(
+            CatalogRedisCache redisCache,
+            CatalogVersionService versionService,
+            @Value("${catalog.cache.category-tree.maximum-tenants:1000}") long maximumTenants,
+            @Value("${catalog.cache.category-tree.max-age:PT1H}") Duration maxAge,
+            @Value("${catalog.cache.category.negative-maximum-size:100000}") long negativeMaximumSize,
+            @Value("${catalog.cache.category.negative-ttl:PT30S}") Duration negativeTtl) {
+        this.redisCache = redisCache;
+        this.versionService = versionService;
+        this.snapshots = Caffeine.newBuilder()
+            .maximumSize(maximumTenants)
+            .expireAfterWrite(maxAge)
+            .build();
+        this.notFound = Caffeine.newBuilder()
+            .maximumSize(negativeMaximumSize)
+            .expireAfterWrite(negativeTtl)
+            .build();
+    }
+
+    /**
+     * Return the cached category, or load it with {@code loader} and cache the result
+     *
+     * <p>The loader returns {@code null} when the category does not exist; that outcome
+     * is cached in the negative cache. Exceptions thrown by the loader propagate unchanged.
+     *
+     * @return the category, or {@code null} if it does not exist
+     */
+    public CategoryResponse get(UUID tenantId, UUID categoryId, Supplier<CategoryResponse> loader) {
+        String key = CatalogRedisCache.categoryKey(tenantId, categoryId);
+        if (notFound.getIfPresent(key) != null) {
+            return null;
+        }
+
+        Optional<CategoryResponse> cached = redisCache.get(key, CategoryResponse.class);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // Captured before reading the database; an eviction after this point wins
+        long localGeneration = invalidations.get();
+        Optional<Long> sharedGeneration = redisCache.generation(key);
+
+        CategoryResponse loaded = loader.get();
+        if (loaded != null) {
+            sharedGeneration.ifPresent(generation -> redisCache.putIfGeneration(key, loaded, generation));
+        } else if (invalidations.get() == localGeneration) {
+            notFound.put(key, Boolean.TRUE);
+            // Re-check: an eviction between the check and the put must still win
+            if (invalidations.get() != localGeneration) {
+                notFound.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Return the tenant's category snapshot for the current catalog version
+     *
+     * <p>The version is read before {@code builder} runs, so a write that commits while
+     * the snapshot is being built only causes one extra rebuild, never a stale snapshot.
+     *
+     * @param builder builds a snapshot tagged with the given version
+     */
+    public CategoryTreeSnapshot getSnapshot(UUID tenantId, Function<CatalogVersion, CategoryTreeSnapshot> builder) {
+        CatalogVersion version = versionService.currentVersion(tenantId);
+        CategoryTreeSnapshot snapshot = snapshots.getIfPresent(tenantId);
+        if (snapshot != null && snapshot.version().equals(version)) {
+            return snapshot;
+        }
+
+        CategoryTreeSnapshot rebuilt = builder.apply(version);
+        snapshots.put(tenantId, rebuilt);
+        log.debug("Rebuilt category snapshot for tenant {} at version {}", tenantId, version);
+        return rebuilt;
+    }
+
+    /**
+     * Invalidate changed categories after the writing transaction commits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        List<String> keys = event.categoryIds().stream()
+            .map(categoryId -> CatalogRedisCache.categoryKey(event.tenantId(), categoryId))
+            .toList();
+        invalidations.incrementAndGet();
+        redisCache.evict(keys);
+        notFound.invalidateAll(keys);
+        versionService.bump(event.tenantId());
+        snapshots.invalidate(event.tenantId());
+        log.debug("Evicted categories {} for tenant {} from cache", event.categoryIds(), event.tenantId());
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecom.catalog.cache;
+
+import com.ecom.catalog.model.response.CategoryResponse;
+import com.ecom.catalog.model.response.CategoryTreeResponse;
+
+import java.util.List;
+
+/**
+ * Immutable view of a tenant's categories at a given catalog version
+ *
+ * <p>Built once from a single query and then served as-is for the tree and flat list
+ * endpoints until the tenant's catalog version changes.
+ */
+public record CategoryTreeSnapshot(
+    /**
+     * Catalog version the snapshot was built from
+     */
+    CatalogVersion version,
+
+    /**
+     * Top-level categories with nested children
+     */
+    List<CategoryTreeResponse> tree,
+
+    /**
+     * All categories as a flat list (with childrenIds)
+     */
+    List<CategoryResponse> categories
+) {
+    public CategoryTreeSnapshot {
+        tree = List.copyOf(tree);
+        categories = List.copyOf(categories);
+    }
+}
@@ -0,0 +1,365 @@
+package com.ecom.catalog.cache;
+
+import com.ecom.catalog.model.event.ProductChangedEvent;
+import com.ecom.catalog.model.event.ProductsChangedEvent;
+import com.ecom.catalog.model.response.ProductResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * In-process near cache for product detail reads
+ *
+ * <p>Holds {@link ProductResponse} objects keyed by (tenantId, productId) so that
+ * repeated GET /api/v1/product/{id} calls do not reach Postgres. The cache is bounded
+ * by entry count and expires entries after a fixed TTL, so stale data is limited even
+ * if an invalidation is missed (e.g. a write on another replica).
+ *
+ * <p>On a local miss the shared Redis tier ({@link CatalogRedisCache}) is consulted
+ * before the database, so newly started replicas warm up from Redis instead of Postgres.
+ *
+ * <p>Entries are invalidated by {@link ProductChangedEvent}, which ProductServiceImpl
+ * publishes on create/update/delete. Eviction runs after the transaction commits so a
+ * concurrent reader cannot re-populate the cache with the pre-commit row. Other
+ * replicas drop their local copy when the TTL expires.
+ *
+ * <p>A load that read the row before an eviction must not write it back afterwards.
+ * Each eviction bumps an invalidation generation (per key in Redis, per key stripe
+ * locally); a loader captures the generations before reading and skips the populate
+ * if they changed in the meantime, so a stale row never outlives the eviction.
+ *
+ * <p>Lookups for products that do not exist (deleted IDs, stale links, crawlers) are
+ * remembered in a separate short-TTL negative cache so repeated misses do not reach the
+ * database either. Negative entries are local only and are dropped by the same
+ * {@link ProductChangedEvent} that ProductServiceImpl publishes on create.
+ *
+ * <p>Hit/miss/eviction metrics are exported through Micrometer as
+ * {@code cache.*{cache="catalog.product"}} and {@code cache.*{cache="catalog.product.negative"}}. Caching can be switched off per tenant
+ * (configuration or the {@code productcache} actuator endpoint).
+ */
+@Component
+@Slf4j
+public class ProductCache {
+
+    /**
+     * Metric name used for the Caffeine cache metrics binder
+     */
+    public static final String CACHE_NAME = "catalog.product";
+
+    /**
+     * Metric name used for the negative (not found) cache
+     */
+    public static final String NEGATIVE_CACHE_NAME = "catalog.product.negative";
+
+    /**
+     * Local invalidation generation stripes (keys share a stripe by hash)
+     */
+    private static final int GENERATION_STRIPES = 4096;
+
+    private final Cache<Key, ProductResponse> cache;
+    private final Cache<Key, Boolean> notFound;
+    private final CatalogRedisCache redisCache;
+    private final boolean enabled;
+    private final Set<UUID> disabledTenants = ConcurrentHashMap.newKeySet();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ProductCache(
+            MeterRegistry meterRegistry,
+            CatalogRedisCache redisCache,
+            @Value("${catalog.cache.product.enabled:true}") boolean enabled,
+            @Value("${catalog.cache.product.maximum-size:50000}") long maximumSize,
+            @Value("${catalog.cache.product.ttl:PT5M}") Duration ttl,
+            @Value("${catalog.cache.product.disabled-tenants:}") Set<UUID> disabledTenants,
+            @Value("${catalog.cache.product.negative-maximum-size:100000}") long negativeMaximumSize,
+            @Value("${catalog.cache.product.negative-ttl:PT30S}") Duration negativeTtl) {
+        this.redisCache = redisCache;
+        this.enabled = enabled;
+        this.disabledTenants.addAll(disabledTenants);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.notFound = Caffeine.newBuilder()
+            .maximumSize(negativeMaximumSize)
+            .expireAfterWrite(negativeTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, notFound, NEGATIVE_CACHE_NAME);
+        log.info("Product cache initialised: enabled={}, maximumSize={}, ttl={}, disabledTenants={}",
+            enabled, maximumSize, ttl, this.disabledTenants);
+    }
+
+    /**
+     * Return the cached product (local tier, then Redis), or load it with {@code loader}
+     * and populate both tiers
+     *
+     * <p>The loader returns {@code null} when the product does not exist; that outcome
+     * is cached in the negative cache and {@code null} is returned to the caller.
+     * Exceptions thrown by the loader propagate unchanged and nothing is cached.
+     *
+     * <p>The loader receives the invalidation generations captured before the load.
+     * Callers that share one load between threads (single flight) must include them in
+     * the share key: a load started before an eviction must not be handed to a caller
+     * that captured its generations after it, or that caller would cache the stale row.
+     *
+     * @return the product, or {@code null} if it does not exist
+     */
+    public ProductResponse get(UUID tenantId, UUID productId, Function<Generations, ProductResponse> loader) {
+        if (!isEnabledFor(tenantId)) {
+            return loader.apply(Generations.UNCACHED);
+        }
+
+        Key key = new Key(tenantId, productId);
+        ProductResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (notFound.getIfPresent(key) != null) {
+            return null;
+        }
+
+        // Captured before reading Redis or the database; an eviction after this point wins
+        long localGeneration = generation(key);
+        String redisKey = CatalogRedisCache.productKey(tenantId, productId);
+        Optional<ProductResponse> shared = redisCache.get(redisKey, ProductResponse.class);
+        if (shared.isPresent()) {
+            populate(cache, key, shared.get(), localGeneration);
+            return shared.get();
+        }
+        Optional<Long> sharedGeneration = redisCache.generation(redisKey);
+
+        ProductResponse loaded = loader.apply(new Generations(localGeneration, sharedGeneration.orElse(-1L)));
+        if (loaded != null) {
+            populate(cache, key, loaded, localGeneration);
+            sharedGeneration.ifPresent(generation -> redisCache.putIfGeneration(redisKey, loaded, generation));
+        } else {
+            populate(notFound, key, Boolean.TRUE, localGeneration);
+        }
+        return loaded;
+    }
+
+    /**
+     * Batch variant of {@link #get}: serves what it can from the local tier, the negative
+     * cache and Redis (one MGET), and loads only the remaining IDs with {@code loader}
+     *
+     * <p>The loader returns the products it found; IDs it does not return are recorded
+     * in the negative cache.
+     *
+     * @return found products by ID (IDs that do not exist are absent)
+     */
+    public Map<UUID, ProductResponse> getAll(
+            UUID tenantId,
+            Collection<UUID> productIds,
+            Function<Set<UUID>, Map<UUID, ProductResponse>> loader) {
+        if (!isEnabledFor(tenantId)) {
+            return loader.apply(new LinkedHashSet<>(productIds));
+        }
+
+        Map<UUID, ProductResponse> found = new HashMap<>();
+        Map<String, UUID> pending = new LinkedHashMap<>();
+        Map<UUID, Long> localGenerations = new HashMap<>();
+        for (UUID productId : productIds) {
+            Key key = new Key(tenantId, productId);
+            ProductResponse cached = cache.getIfPresent(key);
+            if (cached != null) {
+                found.put(productId, cached);
+            } else if (notFound.getIfPresent(key) == null) {
+                pending.put(CatalogRedisCache.productKey(tenantId, productId), productId);
+                localGenerations.put(productId, generation(key));
+            }
+        }
+        if (pending.isEmpty()) {
+            return found;
+        }
+
+        redisCache.getAll(List.copyOf(pending.keySet()), ProductResponse.class).forEach((redisKey, product) -> {
+            UUID productId = pending.remove(redisKey);
+            populate(cache, new Key(tenantId, productId), product, localGenerations.get(productId));
+            found.put(productId, product);
+        });
+        if (pending.isEmpty()) {
+            return found;
+        }
+
+        List<String> redisKeys = List.copyOf(pending.keySet());
+        Optional<List<Long>> sharedGenerations = redisCache.generations(redisKeys);
+        Map<UUID, ProductResponse> loaded = loader.apply(new LinkedHashSet<>(pending.values()));
+        for (int i = 0; i < redisKeys.size(); i++) {
+            String redisKey = redisKeys.get(i);
+            UUID productId = pending.get(redisKey);
+            Key key = new Key(tenantId, productId);
+            ProductResponse product = loaded.get(productId);
+            if (product != null) {
+                populate(cache, key, product, localGenerations.get(productId));
+                int index = i;
+                sharedGenerations.ifPresent(generations ->
+                    redisCache.putIfGeneration(redisKey, product, generations.get(index)));
+                found.put(productId, product);
+            } else {
+                populate(notFound, key, Boolean.TRUE, localGenerations.get(productId));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Remove a single product from both cache tiers and from the negative cache
+     */
+    public void evict(UUID tenantId, UUID productId) {
+        Key key = new Key(tenantId, productId);
+        bumpGeneration(key);
+        cache.invalidate(key);
+        notFound.invalidate(key);
+        redisCache.evict(List.of(CatalogRedisCache.productKey(tenantId, productId)));
+    }
+
+    /**
+     * Invalidate cached product after the writing transaction commits
+     *
+     * <p>{@code fallbackExecution} makes sure eviction still happens when the event is
+     * published outside of a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.tenantId(), event.productId());
+        log.debug("Evicted product {} for tenant {} from cache", event.productId(), event.tenantId());
+    }
+
+    /**
+     * Remove many products of a tenant (one Redis DEL for all of them)
+     */
+    public void evictAll(UUID tenantId, Collection<UUID> productIds) {
+        List<String> redisKeys = new ArrayList<>(productIds.size());
+        for (UUID productId : productIds) {
+            Key key = new Key(tenantId, productId);
+            bumpGeneration(key);
+            cache.invalidate(key);
+            notFound.invalidate(key);
+            redisKeys.add(CatalogRedisCache.productKey(tenantId, productId));
+        }
+        redisCache.evict(redisKeys);
+    }
+
+    /**
+     * Invalidate products written in bulk, after the write commits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        evictAll(event.tenantId(), event.productIds());
+        log.debug("Evicted {} products for tenant {} from cache", event.productIds().size(), event.tenantId());
+    }
+
+    private long generation(Key key) {
+        return generations.get(stripe(key));
+    }
+
+    private void bumpGeneration(Key key) {
+        generations.incrementAndGet(stripe(key));
+    }
+
+    private static int stripe(Key key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    /**
+     * Put a loaded value unless the key was evicted since {@code generation} was read
+     *
+     * <p>Evictions bump the generation before invalidating, so checking again after the
+     * put removes a value that raced with an eviction.
+     */
+    private <V> void populate(Cache<Key, V> target, Key key, V value, long generation) {
+        if (generation(key) != generation) {
+            return;
+        }
+        target.put(key, value);
+        if (generation(key) != generation) {
+            target.invalidate(key);
+        }
+    }
+
+    /**
+     * Whether caching is active for a tenant (global switch and per-tenant kill switch)
+     */
+    public boolean isEnabledFor(UUID tenantId) {
+        return enabled && !disabledTenants.contains(tenantId);
+    }
+
+    /**
+     * Enable or disable caching for a tenant at runtime
+     *
+     * <p>Disabling a tenant also drops its cached entries so that re-enabling never
+     * serves data cached before the switch.
+     */
+    public void setTenantEnabled(UUID tenantId, boolean tenantEnabled) {
+        if (tenantEnabled) {
+            disabledTenants.remove(tenantId);
+        } else {
+            disabledTenants.add(tenantId);
+            cache.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+            notFound.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+        }
+        log.info("Product cache {} for tenant {}", tenantEnabled ? "enabled" : "disabled", tenantId);
+    }
+
+    /**
+     * Tenants for which caching is currently switched off
+     */
+    public Set<UUID> getDisabledTenants() {
+        return Set.copyOf(disabledTenants);
+    }
+
+    /**
+     * Approximate number of cached entries
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Raw Caffeine statistics (hit/miss/eviction counts)
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Cache key: products are always scoped by tenant
+     */
+    private record Key(UUID tenantId, UUID productId) {
+    }
+
+    /**
+     * Invalidation generations a load was started under (local stripe and Redis key;
+     * {@code -1} when the shared tier is unavailable)
+     */
+    public record Generations(long local, long shared) {
+
+        /**
+         * Passed to loads that bypass the cache, which never populate it
+         */
+        public static final Generations UNCACHED = new Generations(-1L, -1L);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecom.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Actuator endpoint for the product near cache
+ *
+ * <p>GET /actuator/productcache returns size, hit/miss/eviction counts and the tenants
+ * for which caching is disabled. POST /actuator/productcache with
+ * {@code {"tenantId": "...", "enabled": false}} acts as a per-tenant kill switch.
+ */
+@Component
+@Endpoint(id = "productcache")
+@RequiredArgsConstructor
+public class ProductCacheEndpoint {
+
+    private final ProductCache productCache;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        CacheStats stats = productCache.stats();
+        return Map.of(
+            "size", productCache.size(),
+            "hits", stats.hitCount(),
+            "misses", stats.missCount(),
+            "hitRate", stats.hitRate(),
+            "evictions", stats.evictionCount(),
+            "disabledTenants", productCache.getDisabledTenants()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> setTenantEnabled(UUID tenantId, boolean enabled) {
+        productCache.setTenantEnabled(tenantId, enabled);
+        return Map.of(
+            "tenantId", tenantId,
+            "enabled", productCache.isEnabledFor(tenantId)
+        );
+    }
+}
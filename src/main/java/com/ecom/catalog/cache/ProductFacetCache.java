@@ -0,0 +1,116 @@
+package com.ecom.catalog.cache;
+
+import com.ecom.catalog.model.event.ProductChangedEvent;
+import com.ecom.catalog.model.event.ProductStockChangedEvent;
+import com.ecom.catalog.model.event.ProductsChangedEvent;
+import com.ecom.catalog.model.request.ProductSearchMode;
+import com.ecom.catalog.model.response.ProductSearchFacets;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache for search facet counts
+ *
+ * <p>Facets depend only on the filters of a search (query, match mode, category, price
+ * range, stock) and the histogram bucket width - not on the page, page size or cursor - so
+ * paging through a result list or re-rendering the filter sidebar reuses one
+ * aggregation. Entries expire after a short TTL, and a tenant's entries are dropped on
+ * every {@link ProductChangedEvent} from this replica. Stock-filtered entries are also
+ * dropped when the tenant's in-stock set changes.
+ *
+ * <p>Metrics are exported as {@code cache.*{cache="catalog.product.facets"}}.
+ */
+@Component
+@Slf4j
+public class ProductFacetCache {
+
+    /**
+     * Metric name used for the Caffeine cache metrics binder
+     */
+    public static final String CACHE_NAME = "catalog.product.facets";
+
+    private final Cache<Key, ProductSearchFacets> cache;
+    private final boolean enabled;
+
+    public ProductFacetCache(
+            MeterRegistry meterRegistry,
+            @Value("${catalog.cache.facets.enabled:true}") boolean enabled,
+            @Value("${catalog.cache.facets.maximum-size:10000}") long maximumSize,
+            @Value("${catalog.cache.facets.ttl:PT1M}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Facet cache initialised: enabled={}, maximumSize={}, ttl={}", enabled, maximumSize, ttl);
+    }
+
+    /**
+     * Return cached facets for the given (normalized) search filters, or compute them
+     * with {@code loader}
+     */
+    public ProductSearchFacets get(Key key, Supplier<ProductSearchFacets> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(key, ignored -> loader.get());
+    }
+
+    /**
+     * Drop a tenant's facets after a product write commits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidateTenant(event.tenantId());
+    }
+
+    /**
+     * Drop a tenant's facets after a bulk write
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        invalidateTenant(event.tenantId());
+    }
+
+    /**
+     * Drop a tenant's stock-filtered facets after stock events change its in-stock set
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductStockChanged(ProductStockChangedEvent event) {
+        cache.asMap().keySet().removeIf(key -> key.tenantId().equals(event.tenantId()) && key.inStock() != null);
+    }
+
+    private void invalidateTenant(UUID tenantId) {
+        cache.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+    }
+
+    /**
+     * Cache key: the search filters that determine the facet counts
+     *
+     * @param mode effective match mode (after any LIKE fallback)
+     */
+    public record Key(
+        UUID tenantId,
+        String query,
+        ProductSearchMode mode,
+        UUID categoryId,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Boolean inStock,
+        BigDecimal priceBucketWidth
+    ) {
+    }
+}
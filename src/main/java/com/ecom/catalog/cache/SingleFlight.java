@@ -0,0 +1,115 @@
+package com.ecom.catalog.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Request coalescing for identical concurrent loads
+ *
+ * <p>When many threads miss the cache for the same key at once, only the first one
+ * (the leader) runs the loader; the others wait for its result instead of issuing the
+ * same query. Results are not retained once the load finishes - caching stays the job
+ * of the caches in front of this.
+ *
+ * <p>Followers wait at most the per-call timeout and then load on their own, so a
+ * stuck leader degrades to uncoalesced loads rather than failing requests. Exceptions
+ * thrown by the leader (e.g. PRODUCT_NOT_FOUND) are rethrown to every follower.
+ *
+ * <p>Metrics: {@code catalog.singleflight.callers{name}} records how many callers each
+ * load served; {@code catalog.singleflight.timeouts{name}} counts follower timeouts.
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+
+    private final Map<FlightKey, Flight<?>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration defaultTimeout;
+
+    public SingleFlight(
+            MeterRegistry meterRegistry,
+            @Value("${catalog.single-flight.timeout:PT5S}") Duration defaultTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Run {@code loader} once for all concurrent callers with the same name and key,
+     * using the default follower timeout
+     */
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        return execute(name, key, defaultTimeout, loader);
+    }
+
+    /**
+     * Run {@code loader} once for all concurrent callers with the same name and key
+     *
+     * @param name load type, used to namespace keys and tag metrics
+     * @param key value-based key identifying identical loads (must implement equals/hashCode)
+     * @param timeout how long followers wait for the leader before loading themselves
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Duration timeout, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(name, key);
+        Flight<T> flight = new Flight<>();
+        Flight<T> existing = (Flight<T>) inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            return follow(name, existing, timeout, loader);
+        }
+
+        try {
+            T result = loader.get();
+            flight.future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+            meterRegistry.summary("catalog.singleflight.callers", "name", name).record(flight.callers.get());
+        }
+    }
+
+    private <T> T follow(String name, Flight<T> flight, Duration timeout, Supplier<T> loader) {
+        flight.callers.incrementAndGet();
+        try {
+            return flight.future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter("catalog.singleflight.timeouts", "name", name).increment();
+            log.warn("Timed out after {} waiting for in-flight {} load; loading directly", timeout, name);
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("In-flight " + name + " load failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight " + name + " load", e);
+        }
+    }
+
+    private record FlightKey(String name, Object key) {
+    }
+
+    private static final class Flight<T> {
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+    }
+}
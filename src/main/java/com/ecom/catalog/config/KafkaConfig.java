@@ -1,23 +1,42 @@
 package com.ecom.catalog.config;
 
-import com.ecom.catalog.model.event.ProductCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.listener.ContainerProperties;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Kafka Producer Configuration
+ * Kafka Producer and Consumer Configuration
  * 
- * <p>Configures KafkaTemplate for publishing ProductCreated events.
+ * <p>Configures the KafkaTemplate used by the outbox relay to publish catalog events
+ * (e.g. ProductCreated). Events are stored in the outbox already encoded (JSON or
+ * Avro), so values are sent as raw bytes; the relay adds the type header that
+ * JsonSerializer would add and a content-type header.
+ * 
+ * <p>The default "throughput" profile lets the producer batch (linger + batch size),
+ * compress batches and pipeline up to 5 requests per connection; idempotence keeps
+ * records of a partition in order and free of duplicates from retries.
+ * 
+ * <p>Consumers (inventory stock events) are batch listeners reading String values;
+ * offsets are committed once a batch has been applied.
  */
 @Configuration
 public class KafkaConfig {
@@ -25,25 +44,117 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    /**
+     * "throughput" (default): batched, compressed, up to 5 requests in flight;
+     * "reliable": the former one-request-at-a-time settings
+     */
+    @Value("${catalog.kafka.producer.profile:throughput}")
+    private String profile;
+
+    /**
+     * How long the producer waits to fill a batch (throughput profile)
+     */
+    @Value("${catalog.kafka.producer.linger:PT0.02S}")
+    private Duration linger;
+
+    /**
+     * Max time send() blocks on metadata or a full buffer before failing the send; kept
+     * short so an unreachable broker fails outbox sends fast instead of blocking the relay
+     */
+    @Value("${catalog.kafka.producer.max-block:PT5S}")
+    private Duration maxBlock;
+
+    /**
+     * Max bytes per partition batch (throughput profile)
+     */
+    @Value("${catalog.kafka.producer.batch-size:131072}")
+    private int batchSize;
+
+    /**
+     * Batch compression: lz4 (cheap on CPU) or zstd (smaller) (throughput profile)
+     */
+    @Value("${catalog.kafka.producer.compression:lz4}")
+    private String compression;
+
+    /**
+     * Upper bound for a send including retries; the outbox relay resends after it
+     */
+    @Value("${catalog.kafka.producer.delivery-timeout:PT30S}")
+    private Duration deliveryTimeout;
+
+    /**
+     * Timeout of one produce request; delivery-timeout must be at least this plus linger
+     */
+    @Value("${catalog.kafka.producer.request-timeout:PT10S}")
+    private Duration requestTimeout;
+
+    /**
+     * Max records handed to a batch listener per poll
+     */
+    @Value("${catalog.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
     @Bean
-    public ProducerFactory<String, ProductCreatedEvent> producerFactory() {
+    public ProducerFactory<String, byte[]> producerFactory(MeterRegistry meterRegistry) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
         
         // Producer reliability settings
         configProps.put(ProducerConfig.ACKS_CONFIG, "all"); // Wait for all replicas
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
         
-        return new DefaultKafkaProducerFactory<>(configProps);
+        if ("reliable".equalsIgnoreCase(profile)) {
+            configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+            configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
+        } else {
+            // Idempotence keeps per-partition order with up to 5 requests in flight, so
+            // retries are bounded by the delivery timeout instead of a count
+            configProps.put(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE);
+            configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+            configProps.put(ProducerConfig.LINGER_MS_CONFIG, (int) linger.toMillis());
+            configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+            configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        }
+        configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) requestTimeout.toMillis());
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) deliveryTimeout.toMillis());
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlock.toMillis());
+        
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(configProps);
+        // Kafka client metrics (kafka.producer.*: batch size, compression rate, request latency, ...)
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, ProductCreatedEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
-}
 
+    @Bean
+    public ConsumerFactory<String, String> consumerFactory(MeterRegistry meterRegistry) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // A new consumer group builds its read model from the start of the topic
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        DefaultKafkaConsumerFactory<String, String> factory = new DefaultKafkaConsumerFactory<>(configProps);
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
+}
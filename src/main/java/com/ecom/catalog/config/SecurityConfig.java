@@ -61,10 +61,11 @@ public class SecurityConfig {
             // Configure endpoint access
             .authorizeHttpRequests(auth -> auth
                 // Public endpoints (no authentication required)
-                // Only 3 catalog endpoints are public for browsing:
+                // Only 4 catalog endpoints are public for browsing:
                 // 1. GET /api/v1/category - Get all categories
                 // 2. GET /api/v1/product/search - Search/get all products
                 // 3. GET /api/v1/product/{id} - Get product by ID
+                // 4. POST /api/v1/product/batch - Get products by IDs (read only)
                 .requestMatchers(
                     "/actuator/health",
                     "/actuator/info",
@@ -73,6 +74,7 @@ public class SecurityConfig {
                 ).permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/product/{id}").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/product/search").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/v1/product/batch").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/category").permitAll()
                 
                 // All other endpoints require authentication (validated by JwtAuthenticationFilter)
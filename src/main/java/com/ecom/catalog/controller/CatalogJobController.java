@@ -0,0 +1,218 @@
+package com.ecom.catalog.controller;
+
+import com.ecom.catalog.model.request.PriceAdjustmentJobRequest;
+import com.ecom.catalog.model.request.ProductImportConflictMode;
+import com.ecom.catalog.model.request.ProductImportFormat;
+import com.ecom.catalog.model.request.RecategorizeJobRequest;
+import com.ecom.catalog.model.response.CatalogJobResponse;
+import com.ecom.catalog.security.JwtAuthenticationToken;
+import com.ecom.catalog.service.CatalogJobService;
+import com.ecom.error.exception.BusinessException;
+import com.ecom.error.model.ErrorCode;
+import com.ecom.response.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Catalog Job Controller
+ * 
+ * <p>Large catalog operations (imports, mass price changes, recategorization) run as
+ * asynchronous jobs instead of holding an HTTP request open. Submitting returns
+ * 202 Accepted with the queued job; clients then poll {@code GET /api/v1/jobs/{jobId}}
+ * for progress, throughput (rows/sec) and an ETA.
+ * 
+ * <p>Jobs are processed in chunks and checkpointed after each one, so they survive
+ * restarts of the service and resume where they stopped.
+ * 
+ * <p>All endpoints are protected and require authentication (SELLER or ADMIN).
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+@Tag(name = "Catalog Jobs", description = "Asynchronous bulk catalog operations")
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogJobController {
+
+    private final CatalogJobService catalogJobService;
+
+    /**
+     * Submit a bulk product import
+     * 
+     * <p>Same input and rules as {@code POST /api/v1/product/import} (NDJSON or CSV,
+     * {@code onConflict=SKIP|UPDATE}), but the upload is stored and processed in the
+     * background.
+     */
+    @PostMapping("/import")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+        summary = "Submit product import job",
+        description = "Stores an NDJSON or CSV upload and imports it in the background."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    public ApiResponse<CatalogJobResponse> submitImport(
+            InputStream body,
+            @RequestParam(required = false) ProductImportFormat format,
+            @RequestParam(defaultValue = "SKIP") ProductImportConflictMode onConflict,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            Authentication authentication) {
+        
+        UUID currentUserId = getUserIdFromAuthentication(authentication);
+        UUID tenantId = getTenantIdFromAuthentication(authentication);
+        List<String> roles = getRolesFromAuthentication(authentication);
+        
+        if (format == null) {
+            format = contentType != null && contentType.toLowerCase().startsWith("text/csv")
+                ? ProductImportFormat.CSV
+                : ProductImportFormat.NDJSON;
+        }
+        
+        log.info("Submitting import job ({}) for seller: {}, tenant: {}", format, currentUserId, tenantId);
+        
+        CatalogJobResponse response = catalogJobService.submitImport(
+            tenantId, currentUserId, roles, format, onConflict, body);
+        return ApiResponse.success(response, "Import job accepted");
+    }
+
+    /**
+     * Submit a mass price change
+     * 
+     * <p>Multiplies the price of every product (optionally of one category) by
+     * {@code 1 + percent/100}, rounded to cents. SELLERs change their own products only.
+     */
+    @PostMapping("/price-adjustment")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+        summary = "Submit price adjustment job",
+        description = "Changes product prices by a percentage in the background."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    public ApiResponse<CatalogJobResponse> submitPriceAdjustment(
+            @Valid @RequestBody PriceAdjustmentJobRequest request,
+            Authentication authentication) {
+        
+        UUID currentUserId = getUserIdFromAuthentication(authentication);
+        UUID tenantId = getTenantIdFromAuthentication(authentication);
+        List<String> roles = getRolesFromAuthentication(authentication);
+        
+        log.info("Submitting price adjustment job for user: {}, tenant: {}", currentUserId, tenantId);
+        
+        CatalogJobResponse response = catalogJobService.submitPriceAdjustment(tenantId, currentUserId, roles, request);
+        return ApiResponse.success(response, "Price adjustment job accepted");
+    }
+
+    /**
+     * Submit a recategorization
+     * 
+     * <p>Moves every product of {@code from_category_id} to {@code to_category_id}.
+     * SELLERs move their own products only.
+     */
+    @PostMapping("/recategorize")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+        summary = "Submit recategorize job",
+        description = "Moves all products of one category to another in the background."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    public ApiResponse<CatalogJobResponse> submitRecategorize(
+            @Valid @RequestBody RecategorizeJobRequest request,
+            Authentication authentication) {
+        
+        UUID currentUserId = getUserIdFromAuthentication(authentication);
+        UUID tenantId = getTenantIdFromAuthentication(authentication);
+        List<String> roles = getRolesFromAuthentication(authentication);
+        
+        log.info("Submitting recategorize job for user: {}, tenant: {}", currentUserId, tenantId);
+        
+        CatalogJobResponse response = catalogJobService.submitRecategorize(tenantId, currentUserId, roles, request);
+        return ApiResponse.success(response, "Recategorize job accepted");
+    }
+
+    /**
+     * Get job status
+     * 
+     * <p>Returns the job's status, row counters, throughput and ETA. Visible to the
+     * submitting user and to ADMINs.
+     */
+    @GetMapping("/{jobId}")
+    @Operation(
+        summary = "Get job status",
+        description = "Returns progress of a catalog job, including rows/sec and ETA."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    public ApiResponse<CatalogJobResponse> getJob(
+            @PathVariable UUID jobId,
+            Authentication authentication) {
+        
+        UUID currentUserId = getUserIdFromAuthentication(authentication);
+        UUID tenantId = getTenantIdFromAuthentication(authentication);
+        List<String> roles = getRolesFromAuthentication(authentication);
+        
+        CatalogJobResponse response = catalogJobService.getJob(jobId, tenantId, currentUserId, roles);
+        return ApiResponse.success(response, "Job retrieved successfully");
+    }
+
+    private UUID getUserIdFromAuthentication(Authentication authentication) {
+        if (authentication == null || !(authentication instanceof JwtAuthenticationToken)) {
+            throw new BusinessException(
+                ErrorCode.UNAUTHORIZED,
+                "User ID is required. Please ensure you are authenticated."
+            );
+        }
+
+        JwtAuthenticationToken jwtAuth = (JwtAuthenticationToken) authentication;
+        String userIdStr = jwtAuth.getUserId();
+        
+        try {
+            return UUID.fromString(userIdStr);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid user ID format in JWT: {}", userIdStr);
+            throw new BusinessException(
+                ErrorCode.UNAUTHORIZED,
+                "Invalid user ID format"
+            );
+        }
+    }
+
+    private UUID getTenantIdFromAuthentication(Authentication authentication) {
+        if (authentication == null || !(authentication instanceof JwtAuthenticationToken)) {
+            throw new BusinessException(
+                ErrorCode.UNAUTHORIZED,
+                "Tenant ID is required. Please ensure you are authenticated."
+            );
+        }
+
+        JwtAuthenticationToken jwtAuth = (JwtAuthenticationToken) authentication;
+        String tenantIdStr = jwtAuth.getTenantId();
+        
+        try {
+            return UUID.fromString(tenantIdStr);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid tenant ID format in JWT: {}", tenantIdStr);
+            throw new BusinessException(
+                ErrorCode.UNAUTHORIZED,
+                "Invalid tenant ID format"
+            );
+        }
+    }
+
+    private List<String> getRolesFromAuthentication(Authentication authentication) {
+        if (authentication == null || !(authentication instanceof JwtAuthenticationToken)) {
+            return List.of();
+        }
+
+        JwtAuthenticationToken jwtAuth = (JwtAuthenticationToken) authentication;
+        return jwtAuth.getRoles();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecom.catalog.controller;
 
+import com.ecom.catalog.model.request.CategoryField;
 import com.ecom.catalog.model.request.CategoryRequest;
 import com.ecom.catalog.model.response.CategoryResponse;
 import com.ecom.catalog.model.response.CategoryTreeResponse;
@@ -18,8 +19,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -27,6 +30,15 @@ import java.util.UUID;
  * 
  * <p>This controller manages product categories with hierarchical support.
  * Categories help organize products and enable better browsing experience.
+ * 
+ * <p>Read endpoints support conditional GET. Their ETags are derived from the tenant's
+ * catalog version, so a matching If-None-Match is answered with 304 Not Modified
+ * before any category data is loaded. While the version comes from a replica-local
+ * fallback (Redis unavailable) no ETag is sent and full responses are served.
+ * 
+ * <p>Read endpoints also accept {@code fields=id,name,...} (JSON property names of
+ * CategoryResponse) to return only those fields. Categories are served from the
+ * in-memory snapshot, so narrowing saves serialization and transfer only.
  */
 @RestController
 @RequestMapping("/api/v1/category")
@@ -76,10 +88,12 @@ public class CategoryController {
         summary = "Get category by ID",
         description = "Retrieves category details including children IDs"
     )
-    public ApiResponse<CategoryResponse> getCategory(
+    public ApiResponse<?> getCategory(
             @PathVariable UUID categoryId,
             @RequestParam(required = false) UUID tenantId, // Optional tenant ID for public access
-            Authentication authentication) {
+            @RequestParam(required = false) String fields, // Sparse fieldset, e.g. "id,name"
+            Authentication authentication,
+            WebRequest webRequest) {
         
         // Extract tenant ID: priority: query param > JWT > default
         if (tenantId == null && authentication != null) {
@@ -98,8 +112,19 @@ public class CategoryController {
         
         log.info("Getting category {} for tenant: {}", categoryId, tenantId);
         
+        Set<CategoryField> fieldset = CategoryField.parse(fields);
+        
+        String eTag = ETags.forCatalogVersion(
+            tenantId, resource(categoryId.toString(), fieldset), categoryService.getCatalogVersion(tenantId));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+        
         CategoryResponse response = categoryService.getCategoryById(categoryId, tenantId);
         
+        if (fieldset != null) {
+            return ApiResponse.success(CategoryField.select(response, fieldset), "Category retrieved successfully");
+        }
         return ApiResponse.success(response, "Category retrieved successfully");
     }
 
@@ -111,9 +136,11 @@ public class CategoryController {
         summary = "Get all categories",
         description = "Returns a flat list of all categories for the tenant"
     )
-    public ApiResponse<List<CategoryResponse>> getAllCategories(
+    public ApiResponse<List<?>> getAllCategories(
             @RequestParam(required = false) UUID tenantId, // Optional tenant ID for public access
-            Authentication authentication) {
+            @RequestParam(required = false) String fields, // Sparse fieldset, e.g. "id,name"
+            Authentication authentication,
+            WebRequest webRequest) {
         
         // Extract tenant ID: priority: query param > JWT > default
         if (tenantId == null && authentication != null) {
@@ -132,9 +159,17 @@ public class CategoryController {
         
         log.info("Getting all categories for tenant: {}", tenantId);
         
+        Set<CategoryField> fieldset = CategoryField.parse(fields);
+        
+        String eTag = ETags.forCatalogVersion(
+            tenantId, resource("list", fieldset), categoryService.getCatalogVersion(tenantId));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+        
         List<CategoryResponse> response = categoryService.getAllCategories(tenantId);
         
-        return ApiResponse.success(response, "Categories retrieved successfully");
+        return ApiResponse.success(narrow(response, fieldset), "Categories retrieved successfully");
     }
 
     /**
@@ -145,9 +180,11 @@ public class CategoryController {
         summary = "Get category tree",
         description = "Returns hierarchical category structure with nested children"
     )
-    public ApiResponse<List<CategoryTreeResponse>> getCategoryTree(
+    public ApiResponse<List<?>> getCategoryTree(
             @RequestParam(required = false) UUID tenantId, // Optional tenant ID for public access
-            Authentication authentication) {
+            @RequestParam(required = false) String fields, // Sparse fieldset, e.g. "id,name"
+            Authentication authentication,
+            WebRequest webRequest) {
         
         // Extract tenant ID: priority: query param > JWT > default
         if (tenantId == null && authentication != null) {
@@ -166,8 +203,21 @@ public class CategoryController {
         
         log.info("Getting category tree for tenant: {}", tenantId);
         
+        Set<CategoryField> fieldset = CategoryField.parse(fields);
+        
+        String eTag = ETags.forCatalogVersion(
+            tenantId, resource("tree", fieldset), categoryService.getCatalogVersion(tenantId));
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+        
         List<CategoryTreeResponse> response = categoryService.getCategoryTree(tenantId);
         
+        if (fieldset != null) {
+            return ApiResponse.success(
+                response.stream().map(node -> CategoryField.select(node, fieldset)).toList(),
+                "Category tree retrieved successfully");
+        }
         return ApiResponse.success(response, "Category tree retrieved successfully");
     }
 
@@ -179,9 +229,10 @@ public class CategoryController {
         summary = "Get child categories",
         description = "Returns all child categories for a given parent category"
     )
-    public ApiResponse<List<CategoryResponse>> getChildCategories(
+    public ApiResponse<List<?>> getChildCategories(
             @PathVariable UUID parentId,
             @RequestParam(required = false) UUID tenantId, // Optional tenant ID for public access
+            @RequestParam(required = false) String fields, // Sparse fieldset, e.g. "id,name"
             Authentication authentication) {
         
         // Extract tenant ID: priority: query param > JWT > default
@@ -203,7 +254,7 @@ public class CategoryController {
         
         List<CategoryResponse> response = categoryService.getChildCategories(parentId, tenantId);
         
-        return ApiResponse.success(response, "Child categories retrieved successfully");
+        return ApiResponse.success(narrow(response, CategoryField.parse(fields)), "Child categories retrieved successfully");
     }
 
     /**
@@ -324,6 +375,23 @@ public class CategoryController {
         return jwtAuth.getRoles();
     }
 
+    /**
+     * Apply a sparse fieldset to a category list (unchanged if no fieldset was requested)
+     */
+    private List<?> narrow(List<CategoryResponse> categories, Set<CategoryField> fieldset) {
+        if (fieldset == null) {
+            return categories;
+        }
+        return categories.stream().map(category -> CategoryField.select(category, fieldset)).toList();
+    }
+
+    /**
+     * ETag resource name: each fieldset is a distinct representation
+     */
+    private String resource(String name, Set<CategoryField> fieldset) {
+        return fieldset != null ? name + "-" + CategoryField.toParam(fieldset) : name;
+    }
+
     /**
      * Get default tenant ID for public browsing
      * 
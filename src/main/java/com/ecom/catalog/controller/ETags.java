@@ -0,0 +1,64 @@
+package com.ecom.catalog.controller;
+
+import com.ecom.catalog.cache.CatalogVersion;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Strong ETag / Last-Modified validators for catalog read endpoints
+ *
+ * <p>Controllers pass these to {@code WebRequest.checkNotModified(...)} and return
+ * {@code null} when it reports a match, which makes Spring answer 304 Not Modified
+ * without serializing a body.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * ETag for a single product: changes whenever the row's updatedAt changes
+     */
+    static String forProduct(UUID productId, LocalDateTime updatedAt) {
+        return "\"p-" + productId + "-" + toEpochMillis(updatedAt) + "\"";
+    }
+
+    /**
+     * ETag for a sparse fieldset of a product; each fieldset is a distinct representation
+     *
+     * @param fields canonical fieldset (e.g. "price,currency"), or null for the full product
+     */
+    static String forProduct(UUID productId, LocalDateTime updatedAt, String fields) {
+        if (fields == null) {
+            return forProduct(productId, updatedAt);
+        }
+        return "\"p-" + productId + "-" + toEpochMillis(updatedAt) + "-" + fields + "\"";
+    }
+
+    /**
+     * ETag for category reads: any category write bumps the tenant's catalog version,
+     * which also covers changes to childrenIds and the tree shape
+     *
+     * <p>Null while the version comes from a replica-local fallback counter: it does not
+     * count other replicas' writes, so it must not produce a 304.
+     *
+     * @param resource distinguishes representations (e.g. "tree", "list", a category ID)
+     */
+    static String forCatalogVersion(UUID tenantId, String resource, CatalogVersion version) {
+        if (!version.shared()) {
+            return null;
+        }
+        return "\"c-" + tenantId + "-" + resource + "-" + version.tag() + "\"";
+    }
+
+    /**
+     * Last-Modified value in epoch millis, or -1 if unknown
+     */
+    static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp != null
+            ? timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : -1L;
+    }
+}
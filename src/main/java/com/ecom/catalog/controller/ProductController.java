@@ -1,9 +1,22 @@
 package com.ecom.catalog.controller;
 
+import com.ecom.catalog.model.request.ProductBatchRequest;
+import com.ecom.catalog.model.request.ProductCountMode;
+import com.ecom.catalog.model.request.ProductField;
+import com.ecom.catalog.model.request.ProductImportConflictMode;
+import com.ecom.catalog.model.request.ProductImportFormat;
 import com.ecom.catalog.model.request.ProductRequest;
+import com.ecom.catalog.model.request.ProductSearchCriteria;
+import com.ecom.catalog.model.request.ProductSearchMode;
+import com.ecom.catalog.model.request.ProductSearchView;
+import com.ecom.catalog.model.request.ProductSort;
+import com.ecom.catalog.model.response.ProductBatchResponse;
+import com.ecom.catalog.model.response.ProductImportResponse;
 import com.ecom.catalog.model.response.ProductResponse;
 import com.ecom.catalog.model.response.ProductSearchResponse;
+import com.ecom.catalog.model.response.ProductUpsertResponse;
 import com.ecom.catalog.security.JwtAuthenticationToken;
+import com.ecom.catalog.service.ProductImportService;
 import com.ecom.catalog.service.ProductService;
 import com.ecom.error.exception.BusinessException;
 import com.ecom.error.model.ErrorCode;
@@ -14,13 +27,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -60,6 +80,13 @@ import java.util.UUID;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+
+    /**
+     * Price histogram bucket width used when facets are requested without one
+     */
+    @Value("${catalog.search.facets.price-bucket-width:50}")
+    private BigDecimal defaultPriceBucketWidth;
 
     /**
      * Create a new product
@@ -108,6 +135,65 @@ public class ProductController {
         return ApiResponse.success(response, "Product created successfully");
     }
 
+    /**
+     * Bulk import products
+     * 
+     * <p>Seller onboarding: creates (or updates) thousands of products in one request.
+     * The body is streamed as NDJSON (one ProductRequest per line) or CSV (header row
+     * with name, sku, description, price, currency, category_id, images, status; images
+     * separated by '|'). The format follows {@code format}, or the Content-Type
+     * ({@code text/csv} selects CSV).
+     * 
+     * <p>Each row is validated like a single create; invalid rows are rejected and
+     * reported by line without failing the import. Valid rows are written in chunks,
+     * and each chunk is committed on its own.
+     * 
+     * <p>{@code onConflict=SKIP} (default) leaves existing SKUs unchanged,
+     * {@code onConflict=UPDATE} overwrites them (sellers only their own products).
+     * 
+     * <p>Access control: Only SELLER and ADMIN roles can import products.
+     * 
+     * <p>This endpoint is protected and requires authentication.
+     */
+    @PostMapping("/import")
+    @Operation(
+        summary = "Bulk import products",
+        description = "Streams NDJSON or CSV rows into the catalog in chunks. Reports created, updated, skipped and rejected rows."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    public ApiResponse<ProductImportResponse> importProducts(
+            InputStream body,
+            @RequestParam(required = false) ProductImportFormat format,
+            @RequestParam(defaultValue = "SKIP") ProductImportConflictMode onConflict,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            Authentication authentication) {
+        
+        // Extract user context from validated JWT (source of truth)
+        UUID currentUserId = getUserIdFromAuthentication(authentication);
+        UUID tenantId = getTenantIdFromAuthentication(authentication);
+        List<String> roles = getRolesFromAuthentication(authentication);
+        
+        if (format == null) {
+            format = contentType != null && contentType.toLowerCase().startsWith("text/csv")
+                ? ProductImportFormat.CSV
+                : ProductImportFormat.NDJSON;
+        }
+        
+        log.info("Importing products ({}) for seller: {}, tenant: {}", format, currentUserId, tenantId);
+        
+        ProductImportResponse response = productImportService.importProducts(
+            currentUserId,
+            tenantId,
+            currentUserId,
+            roles,
+            format,
+            onConflict,
+            body
+        );
+        
+        return ApiResponse.success(response, "Products imported successfully");
+    }
+
     /**
      * Get product by ID
      * 
@@ -115,18 +201,28 @@ public class ProductController {
      * Used by frontend to display product detail pages, and by other services (checkout,
      * cart) to fetch product information.
      * 
+     * <p>Supports conditional GET: the response carries a strong ETag derived from
+     * id + updatedAt and a Last-Modified header, and a matching If-None-Match or
+     * If-Modified-Since yields 304 Not Modified with no body.
+     * 
+     * <p>{@code fields=price,currency} (JSON property names) returns only those fields.
+     * The product still comes from the product cache, so narrowing saves serialization
+     * and transfer rather than database work.
+     * 
      * <p>This endpoint is public (for customer browsing). Authentication is optional
      * but tenant context is required for multi-tenant filtering.
      */
     @GetMapping("/{productId}")
     @Operation(
         summary = "Get product by ID",
-        description = "Retrieves detailed product information including variants, pricing, and images"
+        description = "Retrieves detailed product information including variants, pricing, and images. Supports ETag/If-None-Match."
     )
-    public ApiResponse<ProductResponse> getProduct(
+    public ApiResponse<?> getProduct(
             @PathVariable UUID productId,
             @RequestParam(required = false) UUID tenantId, // Optional tenant ID for public access
-            Authentication authentication) {
+            @RequestParam(required = false) String fields, // Sparse fieldset, e.g. "price,currency"
+            Authentication authentication,
+            WebRequest webRequest) {
         
         // Extract tenant ID: priority: query param > JWT > default
         if (tenantId == null && authentication != null) {
@@ -146,11 +242,77 @@ public class ProductController {
         
         log.info("Getting product {} for tenant: {}", productId, tenantId);
         
+        Set<ProductField> fieldset = ProductField.parse(fields);
+        
+        // Served from the product cache, so validators are usually computed without a query
         ProductResponse response = productService.getProductById(productId, tenantId);
         
+        if (webRequest.checkNotModified(
+                ETags.forProduct(
+                    response.productId(),
+                    response.updatedAt(),
+                    fieldset != null ? ProductField.toParam(fieldset) : null),
+                ETags.toEpochMillis(response.updatedAt()))) {
+            return null; // 304 Not Modified
+        }
+        
+        if (fieldset != null) {
+            return ApiResponse.success(ProductField.select(response, fieldset), "Product retrieved successfully");
+        }
         return ApiResponse.success(response, "Product retrieved successfully");
     }
 
+    /**
+     * Get many products by ID
+     * 
+     * <p>Batch read for cart, order and recommendation services: one call and at most one
+     * query instead of one GET per line item. Products are served from the product cache
+     * where possible. Unknown or deleted IDs are listed in {@code missing_ids} rather
+     * than failing the whole call. {@code fields} narrows each product like on GET.
+     * 
+     * <p>This endpoint is public like GET /{productId}; tenant context is required.
+     */
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Get products by IDs",
+        description = "Returns the requested products keyed by ID and lists IDs that were not found."
+    )
+    public ApiResponse<ProductBatchResponse<?>> getProducts(
+            @Valid @RequestBody ProductBatchRequest batchRequest,
+            @RequestParam(required = false) UUID tenantId, // Optional tenant ID for public access
+            @RequestParam(required = false) String fields, // Sparse fieldset, e.g. "price,currency"
+            Authentication authentication) {
+        
+        // Extract tenant ID: priority: query param > JWT > default
+        if (tenantId == null && authentication != null) {
+            tenantId = getTenantIdFromAuthentication(authentication);
+        }
+        
+        if (tenantId == null) {
+            tenantId = getDefaultTenantId();
+            if (tenantId == null) {
+                throw new BusinessException(
+                    ErrorCode.BAD_REQUEST,
+                    "Tenant ID is required. Please provide 'tenantId' as a query parameter or authenticate."
+                );
+            }
+        }
+        
+        log.info("Getting {} products for tenant: {}", batchRequest.ids().size(), tenantId);
+        
+        Set<ProductField> fieldset = ProductField.parse(fields);
+        ProductBatchResponse<ProductResponse> response = productService.getProductsByIds(batchRequest.ids(), tenantId);
+        
+        if (fieldset != null) {
+            Map<UUID, Map<String, Object>> narrowed = new LinkedHashMap<>();
+            response.products().forEach((id, product) -> narrowed.put(id, ProductField.select(product, fieldset)));
+            return ApiResponse.success(
+                new ProductBatchResponse<>(narrowed, response.missingIds()),
+                "Products retrieved successfully");
+        }
+        return ApiResponse.success(response, "Products retrieved successfully");
+    }
+
     /**
      * Search products with filters
      * 
@@ -158,8 +320,36 @@ public class ProductController {
      * category, price range, availability, and search terms. Essential for customer
      * browsing experience.
      * 
-     * <p>Returns paginated results for performance. Can integrate with dedicated Search
-     * service for advanced full-text search capabilities.
+     * <p>Returns paginated results for performance. The query is matched with Postgres
+     * full-text search by default (ranked by relevance); {@code mode=FUZZY} matches
+     * partial or misspelled names and SKUs, and {@code mode=LIKE} selects plain substring
+     * matching.
+     * 
+     * <p>Paging: by default {@code page}/{@code size} (OFFSET based, {@code size} at most
+     * {@code catalog.search.max-page-size}); results are ranked by relevance, or newest
+     * first without a query or with {@code mode=LIKE}. Passing {@code sort}
+     * (NEWEST, PRICE_ASC, PRICE_DESC) switches to cursor mode: the response carries a
+     * {@code next_cursor} that is passed back as {@code cursor} to fetch the next page,
+     * with constant cost per page however deep the client goes.
+     * 
+     * <p>Counting: {@code count=ESTIMATED} (default) counts at most up to a cap and reports
+     * a lower bound beyond it, {@code count=EXACT} runs a full count and {@code count=NONE}
+     * skips counting. The response's {@code count_mode} says which was used.
+     * 
+     * <p>{@code view=SUMMARY} returns listing tiles (no description, first image only)
+     * instead of full products, which reads and transfers far less per page.
+     * 
+     * <p>{@code fields=name,price,...} (JSON property names of ProductResponse) returns only
+     * those fields and reads only those columns; it takes precedence over {@code view}.
+     * 
+     * <p>Stock: {@code inStock=true} keeps products in stock, {@code inStock=false} those
+     * out of stock. Availability comes from a local read model kept up to date from the
+     * inventory service's stock events, so searching never calls the inventory service;
+     * it can lag the inventory by the consumer's delay.
+     * 
+     * <p>Facets: {@code facets=true} adds per-category and per-status counts and a price
+     * histogram ({@code priceBucketWidth} wide buckets) for the whole result set, so the
+     * filter sidebar needs no extra calls.
      * 
      * <p>This endpoint is public (for customer browsing). Authentication is optional
      * but tenant context is required for multi-tenant filtering.
@@ -169,12 +359,20 @@ public class ProductController {
         summary = "Search products with filters",
         description = "Searches products by category, price range, availability, and search terms. Returns paginated results."
     )
-    public ApiResponse<ProductSearchResponse> searchProducts(
+    public ApiResponse<ProductSearchResponse<?>> searchProducts(
             @RequestParam(required = false) String query,
+            @RequestParam(required = false) ProductSearchMode mode, // FULL_TEXT (default), FUZZY or LIKE
             @RequestParam(required = false) UUID categoryId,
             @RequestParam(required = false) Double minPrice,
             @RequestParam(required = false) Double maxPrice,
-            @RequestParam(required = false) Boolean inStock, // Not implemented yet - would require inventory service integration
+            @RequestParam(required = false) Boolean inStock, // Stock read model; products without stock events count as out of stock
+            @RequestParam(required = false) ProductSort sort, // Selects cursor mode
+            @RequestParam(required = false) String cursor, // next_cursor from the previous page
+            @RequestParam(required = false) ProductCountMode count, // EXACT, ESTIMATED (default) or NONE
+            @RequestParam(required = false) ProductSearchView view, // FULL (default) or SUMMARY (listing tiles)
+            @RequestParam(required = false) String fields, // Sparse fieldset; overrides view
+            @RequestParam(defaultValue = "false") boolean facets, // Include category/status counts and price histogram
+            @RequestParam(required = false) Double priceBucketWidth, // Histogram bucket width (facets only)
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) UUID tenantId, // Optional tenant ID for public access
@@ -201,16 +399,33 @@ public class ProductController {
         
         BigDecimal minPriceDecimal = minPrice != null ? BigDecimal.valueOf(minPrice) : null;
         BigDecimal maxPriceDecimal = maxPrice != null ? BigDecimal.valueOf(maxPrice) : null;
+        BigDecimal facetBucketWidth = null;
+        if (facets) {
+            if (priceBucketWidth != null && priceBucketWidth <= 0) {
+                throw new BusinessException(ErrorCode.BAD_REQUEST, "priceBucketWidth must be positive");
+            }
+            facetBucketWidth = priceBucketWidth != null
+                ? BigDecimal.valueOf(priceBucketWidth)
+                : defaultPriceBucketWidth;
+        }
         
-        ProductSearchResponse response = productService.searchProducts(
+        ProductSearchResponse<?> response = productService.searchProducts(ProductSearchCriteria.of(
             tenantId,
             query,
+            mode,
             categoryId,
             minPriceDecimal,
             maxPriceDecimal,
+            inStock,
+            sort,
+            cursor,
+            count,
+            view,
+            ProductField.parse(fields),
+            facetBucketWidth,
             page,
             size
-        );
+        ));
         
         return ApiResponse.success(response, "Products retrieved successfully");
     }
@@ -254,6 +469,57 @@ public class ProductController {
         return ApiResponse.success(response, "Product updated successfully");
     }
 
+    /**
+     * Create or replace product by SKU
+     * 
+     * <p>Idempotent write for sellers and integrations that identify products by SKU:
+     * inserts the product if the SKU is new in the tenant, otherwise replaces the existing
+     * product (fields missing from the body are cleared; a soft-deleted product is
+     * restored). One INSERT ... ON CONFLICT statement does either, so retries and
+     * concurrent writers of the same SKU are safe.
+     * 
+     * <p>Responds 201 Created when the product was created and 200 OK when it was updated;
+     * the body's {@code created} flag says the same.
+     * 
+     * <p>Access control: SELLER and ADMIN roles; only the owner or an ADMIN can update an
+     * existing product.
+     * 
+     * <p>This endpoint is protected and requires authentication.
+     */
+    @PutMapping("/sku/{sku}")
+    @Operation(
+        summary = "Create or replace product by SKU",
+        description = "Idempotent upsert keyed by SKU. Returns 201 if created, 200 if updated."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<ApiResponse<ProductUpsertResponse>> upsertProductBySku(
+            @PathVariable String sku,
+            @Valid @RequestBody ProductRequest productRequest,
+            Authentication authentication) {
+        
+        // Extract user context from validated JWT (source of truth)
+        UUID currentUserId = getUserIdFromAuthentication(authentication);
+        UUID tenantId = getTenantIdFromAuthentication(authentication);
+        List<String> roles = getRolesFromAuthentication(authentication);
+        
+        log.info("Upserting product with SKU {} for user: {}, tenant: {}", sku, currentUserId, tenantId);
+        
+        ProductUpsertResponse response = productService.upsertProductBySku(
+            currentUserId,
+            tenantId,
+            currentUserId,
+            roles,
+            sku,
+            productRequest
+        );
+        
+        return ResponseEntity
+            .status(response.created() ? HttpStatus.CREATED : HttpStatus.OK)
+            .body(ApiResponse.success(
+                response,
+                response.created() ? "Product created successfully" : "Product updated successfully"));
+    }
+
     /**
      * Delete product
      * 
@@ -0,0 +1,157 @@
+package com.ecom.catalog.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Catalog Job Entity
+ * 
+ * <p>An asynchronous bulk operation (product import, price adjustment, recategorization)
+ * processed in chunks by CatalogJobRunner. After every chunk the runner stores the
+ * counters together with a type-specific checkpoint, so a job interrupted by a restart
+ * continues from its last chunk instead of starting over.
+ * 
+ * <p>A RUNNING job is leased by one instance ({@code owner}); the lease is renewed with
+ * every checkpoint ({@code heartbeatAt}) and a job whose lease has gone stale is taken
+ * over by another instance.
+ * 
+ * <p>The uploaded input of an import is kept in the {@code payload} column, which is
+ * deliberately not mapped so that status reads never load it.
+ */
+@Entity
+@Table(name = "catalog_jobs", indexes = {
+    // Partial index (WHERE status IN ('QUEUED', 'RUNNING')) - the predicate is only expressed in the migration
+    @Index(name = "idx_catalog_jobs_unfinished", columnList = "status, created_at"),
+    @Index(name = "idx_catalog_jobs_tenant_created", columnList = "tenant_id, created_at DESC")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class CatalogJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Tenant ID for multi-tenant isolation
+     */
+    @Column(nullable = false, name = "tenant_id")
+    private UUID tenantId;
+
+    /**
+     * User who submitted the job
+     */
+    @Column(nullable = false, name = "created_by")
+    private UUID createdBy;
+
+    /**
+     * Job type (PRODUCT_IMPORT, PRICE_ADJUSTMENT, RECATEGORIZE)
+     */
+    @Column(nullable = false)
+    private String type;
+
+    /**
+     * Job status (QUEUED, RUNNING, SUCCEEDED, FAILED)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private String status = "QUEUED";
+
+    /**
+     * Type-specific parameters (JSON)
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String parameters;
+
+    /**
+     * Type-specific resume position (e.g. input line, last product ID)
+     */
+    @Column(columnDefinition = "TEXT")
+    private String checkpoint;
+
+    /**
+     * Rows the job will process, once known
+     */
+    @Column(name = "total_rows")
+    private Long totalRows;
+
+    @Column(nullable = false, name = "processed_rows")
+    @Builder.Default
+    private long processedRows = 0;
+
+    @Column(nullable = false, name = "created_rows")
+    @Builder.Default
+    private long createdRows = 0;
+
+    @Column(nullable = false, name = "updated_rows")
+    @Builder.Default
+    private long updatedRows = 0;
+
+    @Column(nullable = false, name = "skipped_rows")
+    @Builder.Default
+    private long skippedRows = 0;
+
+    @Column(nullable = false, name = "rejected_rows")
+    @Builder.Default
+    private long rejectedRows = 0;
+
+    /**
+     * First rejected rows (JSON array)
+     */
+    @Column(columnDefinition = "TEXT")
+    private String errors;
+
+    /**
+     * Failure reason of a FAILED job
+     */
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    /**
+     * Instance holding the lease while RUNNING
+     */
+    private String owner;
+
+    /**
+     * Last lease renewal
+     */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * First time the job was started (kept across resumes)
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * Created timestamp (auto-populated by JPA auditing)
+     */
+    @CreatedDate
+    @Column(nullable = false, name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Last updated timestamp (auto-populated by JPA auditing)
+     */
+    @LastModifiedDate
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
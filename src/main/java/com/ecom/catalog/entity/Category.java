@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -74,5 +76,13 @@ public class Category {
     @LastModifiedDate
     @Column(nullable = false, name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * Version of the category, incremented by a database trigger on every update
+     * (carried by lifecycle events; read back after each insert and update)
+     */
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long version;
 }
 
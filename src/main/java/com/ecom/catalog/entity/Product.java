@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -28,10 +30,12 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "products", indexes = {
-    @Index(name = "idx_products_sku_tenant", columnList = "sku, tenant_id"),
-    @Index(name = "idx_products_seller_tenant", columnList = "seller_id, tenant_id"),
     @Index(name = "idx_products_category", columnList = "category_id"),
-    @Index(name = "idx_products_deleted", columnList = "deleted")
+    // Partial indexes (WHERE deleted = false) - the predicate is only expressed in the migrations
+    @Index(name = "idx_products_seller_tenant_live", columnList = "seller_id, tenant_id"),
+    @Index(name = "idx_products_tenant_category_price", columnList = "tenant_id, category_id, price"),
+    @Index(name = "idx_products_tenant_created_id", columnList = "tenant_id, created_at DESC, id DESC"),
+    @Index(name = "idx_products_tenant_price_id", columnList = "tenant_id, price, id")
 })
 @Getter
 @Setter
@@ -133,5 +137,13 @@ public class Product {
     @LastModifiedDate
     @Column(nullable = false, name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * Version of the product, incremented by a database trigger on every update
+     * (carried by lifecycle events; read back after each insert and update)
+     */
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long version;
 }
 
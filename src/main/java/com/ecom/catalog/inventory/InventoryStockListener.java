@@ -0,0 +1,67 @@
+package com.ecom.catalog.inventory;
+
+import com.ecom.catalog.model.event.StockLevelChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consumes inventory stock events into the product_stock read model
+ *
+ * <p>Batch listener: each poll is parsed and handed to {@link StockLevelHandler} as one
+ * batch, which writes it with a single statement; offsets are committed after the batch
+ * is applied, so a failed batch is redelivered. A record that cannot be parsed is logged
+ * and skipped instead of blocking its partition.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryStockListener {
+
+    private final StockLevelHandler stockLevelHandler;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        id = "inventory-stock",
+        topics = "${catalog.inventory.stock-topic:inventory-stock-changed}",
+        groupId = "${catalog.inventory.consumer.group-id:catalog-service}",
+        concurrency = "${catalog.inventory.consumer.concurrency:1}",
+        autoStartup = "${catalog.inventory.consumer.enabled:true}"
+    )
+    public void onStockLevels(List<ConsumerRecord<String, String>> records) {
+        List<StockLevelChangedEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            if (record.value() == null) {
+                continue;
+            }
+            try {
+                StockLevelChangedEvent event = objectMapper.readValue(record.value(), StockLevelChangedEvent.class);
+                events.add(event.timestamp() != null ? event : withRecordTime(event, record));
+            } catch (JsonProcessingException e) {
+                log.warn("Skipping malformed stock event at {}-{}@{}: {}",
+                    record.topic(), record.partition(), record.offset(), e.getOriginalMessage());
+            }
+        }
+        stockLevelHandler.apply(events);
+    }
+
+    private static StockLevelChangedEvent withRecordTime(StockLevelChangedEvent event, ConsumerRecord<?, ?> record) {
+        return new StockLevelChangedEvent(
+            event.eventType(),
+            event.productId(),
+            event.tenantId(),
+            event.availableQuantity(),
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault())
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecom.catalog.inventory;
+
+import com.ecom.catalog.model.event.ProductStockChangedEvent;
+import com.ecom.catalog.model.event.StockLevelChangedEvent;
+import com.ecom.catalog.repository.ProductStockRepository;
+import com.ecom.catalog.repository.projection.ProductStockRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies inventory stock events to the product_stock read model
+ *
+ * <p>Independent of Kafka: {@link InventoryStockListener} passes it the events of each
+ * polled batch, and any other source (an in-memory list of events, a replay) can call it
+ * the same way. Applying the same events again, or older ones, changes nothing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockLevelHandler {
+
+    private final ProductStockRepository stockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Apply a batch of events with one statement; per product only the latest event counts
+     *
+     * <p>Events without product, tenant or timestamp are skipped.
+     */
+    @Transactional
+    public void apply(List<StockLevelChangedEvent> events) {
+        Map<UUID, ProductStockRow> latest = new LinkedHashMap<>();
+        for (StockLevelChangedEvent event : events) {
+            if (event.productId() == null || event.tenantId() == null || event.timestamp() == null) {
+                log.warn("Skipping incomplete stock event: {}", event);
+                continue;
+            }
+            ProductStockRow row = new ProductStockRow(
+                event.productId(), event.tenantId(), event.availableQuantity() > 0, event.timestamp());
+            latest.merge(event.productId(), row,
+                (current, next) -> next.eventTime().isBefore(current.eventTime()) ? current : next);
+        }
+
+        Set<UUID> changedTenants = stockRepository.upsert(new ArrayList<>(latest.values()));
+        // Dispatched once the transaction commits
+        changedTenants.forEach(tenantId -> eventPublisher.publishEvent(new ProductStockChangedEvent(tenantId)));
+        log.debug("Applied {} stock events for {} products; in-stock set changed for {} tenants",
+            events.size(), latest.size(), changedTenants.size());
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecom.catalog.model.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Application event published when categories are created, updated or deleted
+ *
+ * <p>This is an in-process Spring event (not sent to Kafka). It lists every category
+ * whose response changed, including parents whose {@code childrenIds} changed, so that
+ * CategoryCache can invalidate them after the transaction commits.
+ */
+public record CategoryChangedEvent(
+    /**
+     * Tenant ID
+     */
+    UUID tenantId,
+
+    /**
+     * IDs of categories whose cached representation is no longer valid
+     */
+    Set<UUID> categoryIds
+) {
+}
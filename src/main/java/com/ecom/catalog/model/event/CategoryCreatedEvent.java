@@ -0,0 +1,76 @@
+package com.ecom.catalog.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Kafka event published when a category is created
+ */
+public record CategoryCreatedEvent(
+    /**
+     * Event type identifier
+     */
+    @JsonProperty("event_type")
+    String eventType,
+
+    /**
+     * Category ID
+     */
+    @JsonProperty("category_id")
+    UUID categoryId,
+
+    /**
+     * Tenant ID
+     */
+    @JsonProperty("tenant_id")
+    UUID tenantId,
+
+    /**
+     * Category name
+     */
+    @JsonProperty("name")
+    String name,
+
+    /**
+     * Category description
+     */
+    @JsonProperty("description")
+    String description,
+
+    /**
+     * Parent category ID (null for a top-level category)
+     */
+    @JsonProperty("parent_id")
+    UUID parentId,
+
+    /**
+     * Category version, as stored by the insert
+     */
+    @JsonProperty("version")
+    long version,
+
+    /**
+     * Event timestamp
+     */
+    @JsonProperty("timestamp")
+    LocalDateTime timestamp
+) {
+    /**
+     * Factory method to create CategoryCreatedEvent
+     */
+    public static CategoryCreatedEvent of(
+            UUID categoryId, UUID tenantId, String name, String description, UUID parentId, long version) {
+        return new CategoryCreatedEvent(
+            "CategoryCreated",
+            categoryId,
+            tenantId,
+            name,
+            description,
+            parentId,
+            version,
+            LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecom.catalog.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Kafka event published when a category is deleted
+ *
+ * <p>Categories are deleted for good, so this is the last event of the category; its
+ * version is one above the category's last stored version.
+ */
+public record CategoryDeletedEvent(
+    /**
+     * Event type identifier
+     */
+    @JsonProperty("event_type")
+    String eventType,
+
+    /**
+     * Category ID
+     */
+    @JsonProperty("category_id")
+    UUID categoryId,
+
+    /**
+     * Tenant ID
+     */
+    @JsonProperty("tenant_id")
+    UUID tenantId,
+
+    /**
+     * Final category version
+     */
+    @JsonProperty("version")
+    long version,
+
+    /**
+     * Event timestamp
+     */
+    @JsonProperty("timestamp")
+    LocalDateTime timestamp
+) {
+    /**
+     * Factory method to create CategoryDeletedEvent
+     */
+    public static CategoryDeletedEvent of(UUID categoryId, UUID tenantId, long version) {
+        return new CategoryDeletedEvent(
+            "CategoryDeleted",
+            categoryId,
+            tenantId,
+            version,
+            LocalDateTime.now()
+        );
+    }
+}
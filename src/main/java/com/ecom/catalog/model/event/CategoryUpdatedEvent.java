@@ -0,0 +1,66 @@
+package com.ecom.catalog.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Kafka event published when fields of a category change
+ *
+ * <p>Carries only the changed fields ({@code name}, {@code description},
+ * {@code parent_id}); versions of one category increase strictly.
+ */
+public record CategoryUpdatedEvent(
+    /**
+     * Event type identifier
+     */
+    @JsonProperty("event_type")
+    String eventType,
+
+    /**
+     * Category ID
+     */
+    @JsonProperty("category_id")
+    UUID categoryId,
+
+    /**
+     * Tenant ID
+     */
+    @JsonProperty("tenant_id")
+    UUID tenantId,
+
+    /**
+     * Category version after the change
+     */
+    @JsonProperty("version")
+    long version,
+
+    /**
+     * Changed fields keyed by field name
+     */
+    @JsonProperty("changes")
+    Map<String, FieldChange> changes,
+
+    /**
+     * Event timestamp
+     */
+    @JsonProperty("timestamp")
+    LocalDateTime timestamp
+) {
+    /**
+     * Factory method to create CategoryUpdatedEvent
+     */
+    public static CategoryUpdatedEvent of(
+            UUID categoryId, UUID tenantId, long version, Map<String, FieldChange> changes) {
+        return new CategoryUpdatedEvent(
+            "CategoryUpdated",
+            categoryId,
+            tenantId,
+            version,
+            changes,
+            LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecom.catalog.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Old and new value of one field in a lifecycle event's change set
+ */
+public record FieldChange(
+    /**
+     * Value before the change (null if unset)
+     */
+    @JsonProperty("old")
+    Object oldValue,
+
+    /**
+     * Value after the change (null if cleared)
+     */
+    @JsonProperty("new")
+    Object newValue
+) {
+    /**
+     * Fields whose values differ between two snapshots keyed by field name
+     *
+     * <p>Amounts are compared by value, so 10.0 and 10.00 are not a change. A field missing
+     * from one snapshot counts as null.
+     *
+     * @return Changed fields in the order of {@code after}; empty if nothing changed
+     */
+    public static Map<String, FieldChange> diff(Map<String, Object> before, Map<String, Object> after) {
+        Map<String, FieldChange> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            Object oldValue = before.get(entry.getKey());
+            if (!sameValue(oldValue, entry.getValue())) {
+                changes.put(entry.getKey(), new FieldChange(oldValue, entry.getValue()));
+            }
+        }
+        return changes;
+    }
+
+    private static boolean sameValue(Object a, Object b) {
+        if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+            return x.compareTo(y) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ecom.catalog.model.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a product is created, updated or deleted
+ *
+ * <p>This is an in-process Spring event (not sent to Kafka). Listeners such as
+ * ProductCache use it to invalidate cached product data once the surrounding
+ * transaction has committed.
+ */
+public record ProductChangedEvent(
+    /**
+     * Tenant ID
+     */
+    UUID tenantId,
+
+    /**
+     * Product ID
+     */
+    UUID productId
+) {
+}
@@ -9,7 +9,8 @@ import java.util.UUID;
  * Kafka event published when a product is created
  * 
  * <p>This event is consumed by Inventory service to auto-initialize stock records
- * and by Search service to index products.
+ * and by Search service to index products. It opens the product's lifecycle stream
+ * on {@code product-events} with the version stored by the insert.
  */
 public record ProductCreatedEvent(
     /**
@@ -42,6 +43,12 @@ public record ProductCreatedEvent(
     @JsonProperty("seller_id")
     UUID sellerId,
 
+    /**
+     * Product version, as stored by the insert
+     */
+    @JsonProperty("version")
+    long version,
+
     /**
      * Event timestamp
      */
@@ -51,13 +58,14 @@ public record ProductCreatedEvent(
     /**
      * Factory method to create ProductCreatedEvent
      */
-    public static ProductCreatedEvent of(UUID productId, String sku, UUID tenantId, UUID sellerId) {
+    public static ProductCreatedEvent of(UUID productId, String sku, UUID tenantId, UUID sellerId, long version) {
         return new ProductCreatedEvent(
             "ProductCreated",
             productId,
             sku,
             tenantId,
             sellerId,
+            version,
             LocalDateTime.now()
         );
     }
@@ -0,0 +1,71 @@
+package com.ecom.catalog.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Kafka event published when a product is (soft) deleted
+ *
+ * <p>Last event of a product's lifecycle unless an upsert of its SKU restores it, which
+ * is published as a ProductUpdated event with a higher version.
+ */
+public record ProductDeletedEvent(
+    /**
+     * Event type identifier
+     */
+    @JsonProperty("event_type")
+    String eventType,
+
+    /**
+     * Product ID
+     */
+    @JsonProperty("product_id")
+    UUID productId,
+
+    /**
+     * Product SKU
+     */
+    @JsonProperty("sku")
+    String sku,
+
+    /**
+     * Tenant ID
+     */
+    @JsonProperty("tenant_id")
+    UUID tenantId,
+
+    /**
+     * Seller ID (product owner)
+     */
+    @JsonProperty("seller_id")
+    UUID sellerId,
+
+    /**
+     * Product version after the deletion
+     */
+    @JsonProperty("version")
+    long version,
+
+    /**
+     * Event timestamp
+     */
+    @JsonProperty("timestamp")
+    LocalDateTime timestamp
+) {
+    /**
+     * Factory method to create ProductDeletedEvent
+     */
+    public static ProductDeletedEvent of(UUID productId, String sku, UUID tenantId, UUID sellerId, long version) {
+        return new ProductDeletedEvent(
+            "ProductDeleted",
+            productId,
+            sku,
+            tenantId,
+            sellerId,
+            version,
+            LocalDateTime.now()
+        );
+    }
+}
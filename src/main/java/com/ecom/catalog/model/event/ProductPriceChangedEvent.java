@@ -0,0 +1,93 @@
+package com.ecom.catalog.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Kafka event published when the price of a product changes
+ *
+ * <p>Published on its own topic for pricing consumers (e.g. price alerts, carts) in
+ * addition to the ProductUpdated event of the same change, whose version it shares.
+ */
+public record ProductPriceChangedEvent(
+    /**
+     * Event type identifier
+     */
+    @JsonProperty("event_type")
+    String eventType,
+
+    /**
+     * Product ID
+     */
+    @JsonProperty("product_id")
+    UUID productId,
+
+    /**
+     * Tenant ID
+     */
+    @JsonProperty("tenant_id")
+    UUID tenantId,
+
+    /**
+     * Seller ID (product owner)
+     */
+    @JsonProperty("seller_id")
+    UUID sellerId,
+
+    /**
+     * Product version after the change
+     */
+    @JsonProperty("version")
+    long version,
+
+    /**
+     * Price before the change
+     */
+    @JsonProperty("old_price")
+    BigDecimal oldPrice,
+
+    /**
+     * Price after the change
+     */
+    @JsonProperty("new_price")
+    BigDecimal newPrice,
+
+    /**
+     * Currency of the new price
+     */
+    @JsonProperty("currency")
+    String currency,
+
+    /**
+     * Event timestamp
+     */
+    @JsonProperty("timestamp")
+    LocalDateTime timestamp
+) {
+    /**
+     * Factory method to create ProductPriceChangedEvent
+     */
+    public static ProductPriceChangedEvent of(
+            UUID productId,
+            UUID tenantId,
+            UUID sellerId,
+            long version,
+            BigDecimal oldPrice,
+            BigDecimal newPrice,
+            String currency) {
+        return new ProductPriceChangedEvent(
+            "ProductPriceChanged",
+            productId,
+            tenantId,
+            sellerId,
+            version,
+            oldPrice,
+            newPrice,
+            currency,
+            LocalDateTime.now()
+        );
+    }
+}
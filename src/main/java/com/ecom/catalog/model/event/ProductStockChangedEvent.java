@@ -0,0 +1,16 @@
+package com.ecom.catalog.model.event;
+
+import java.util.UUID;
+
+/**
+ * Spring application event published when products of a tenant went in or out of stock
+ *
+ * <p>Lets ProductFacetCache drop the tenant's facets of {@code inStock} searches.
+ */
+public record ProductStockChangedEvent(
+    /**
+     * Tenant ID
+     */
+    UUID tenantId
+) {
+}
@@ -0,0 +1,74 @@
+package com.ecom.catalog.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Kafka event published when fields of a product change
+ *
+ * <p>Carries only the changed fields, so read models can apply it incrementally. Events
+ * of one product are keyed by its ID and their versions increase strictly; a consumer
+ * ignores an event whose version is not above the one it already applied.
+ */
+public record ProductUpdatedEvent(
+    /**
+     * Event type identifier
+     */
+    @JsonProperty("event_type")
+    String eventType,
+
+    /**
+     * Product ID
+     */
+    @JsonProperty("product_id")
+    UUID productId,
+
+    /**
+     * Tenant ID
+     */
+    @JsonProperty("tenant_id")
+    UUID tenantId,
+
+    /**
+     * Seller ID (product owner)
+     */
+    @JsonProperty("seller_id")
+    UUID sellerId,
+
+    /**
+     * Product version after the change
+     */
+    @JsonProperty("version")
+    long version,
+
+    /**
+     * Changed fields keyed by JSON property name (as in the product API)
+     */
+    @JsonProperty("changes")
+    Map<String, FieldChange> changes,
+
+    /**
+     * Event timestamp
+     */
+    @JsonProperty("timestamp")
+    LocalDateTime timestamp
+) {
+    /**
+     * Factory method to create ProductUpdatedEvent
+     */
+    public static ProductUpdatedEvent of(
+            UUID productId, UUID tenantId, UUID sellerId, long version, Map<String, FieldChange> changes) {
+        return new ProductUpdatedEvent(
+            "ProductUpdated",
+            productId,
+            tenantId,
+            sellerId,
+            version,
+            changes,
+            LocalDateTime.now()
+        );
+    }
+}
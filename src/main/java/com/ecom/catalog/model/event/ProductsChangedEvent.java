@@ -0,0 +1,17 @@
+package com.ecom.catalog.model.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-process event published after many products were written at once (bulk import)
+ *
+ * <p>Batch counterpart of {@link ProductChangedEvent}: caches drop all listed products
+ * in one pass instead of handling one event per product. Not sent to Kafka.
+ */
+public record ProductsChangedEvent(
+    UUID tenantId,
+
+    Set<UUID> productIds
+) {
+}
@@ -0,0 +1,47 @@
+package com.ecom.catalog.model.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Kafka event consumed from Inventory service when the stock level of a product changes
+ *
+ * <p>Only the fields the catalog needs are mapped; unknown fields are ignored so the
+ * inventory service can extend the event.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record StockLevelChangedEvent(
+    /**
+     * Event type identifier
+     */
+    @JsonProperty("event_type")
+    String eventType,
+
+    /**
+     * Product ID
+     */
+    @JsonProperty("product_id")
+    UUID productId,
+
+    /**
+     * Tenant ID
+     */
+    @JsonProperty("tenant_id")
+    UUID tenantId,
+
+    /**
+     * Quantity available for sale (on hand minus reserved)
+     */
+    @JsonProperty("available_quantity")
+    long availableQuantity,
+
+    /**
+     * Event timestamp (null: the Kafka record timestamp is used)
+     */
+    @JsonProperty("timestamp")
+    LocalDateTime timestamp
+) {
+}
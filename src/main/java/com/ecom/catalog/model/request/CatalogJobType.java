@@ -0,0 +1,21 @@
+package com.ecom.catalog.model.request;
+
+/**
+ * Kinds of asynchronous catalog jobs
+ */
+public enum CatalogJobType {
+    /**
+     * Bulk product import from an uploaded NDJSON or CSV file
+     */
+    PRODUCT_IMPORT,
+
+    /**
+     * Change the price of many products by a percentage
+     */
+    PRICE_ADJUSTMENT,
+
+    /**
+     * Move all products of one category to another
+     */
+    RECATEGORIZE
+}
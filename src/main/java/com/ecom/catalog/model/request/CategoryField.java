@@ -0,0 +1,104 @@
+package com.ecom.catalog.model.request;
+
+import com.ecom.catalog.model.response.CategoryResponse;
+import com.ecom.catalog.model.response.CategoryTreeResponse;
+import com.ecom.error.exception.BusinessException;
+import com.ecom.error.model.ErrorCode;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Selectable fields of a category for sparse fieldsets ({@code fields=id,name})
+ *
+ * <p>Field names are the JSON property names of {@link CategoryResponse}. In the tree,
+ * {@code children} is always kept so the hierarchy survives narrowing; there
+ * {@code childrenIds} is derived from the children.
+ */
+public enum CategoryField {
+    ID("id", CategoryResponse::id, CategoryTreeResponse::id),
+    NAME("name", CategoryResponse::name, CategoryTreeResponse::name),
+    DESCRIPTION("description", CategoryResponse::description, CategoryTreeResponse::description),
+    PARENT_ID("parentId", CategoryResponse::parentId, CategoryTreeResponse::parentId),
+    TENANT_ID("tenantId", CategoryResponse::tenantId, CategoryTreeResponse::tenantId),
+    CHILDREN_IDS("childrenIds", CategoryResponse::childrenIds,
+        node -> node.children().stream().map(CategoryTreeResponse::id).toList()),
+    CREATED_AT("createdAt", CategoryResponse::createdAt, CategoryTreeResponse::createdAt),
+    UPDATED_AT("updatedAt", CategoryResponse::updatedAt, CategoryTreeResponse::updatedAt);
+
+    private final String jsonName;
+    private final Function<CategoryResponse, Object> accessor;
+    private final Function<CategoryTreeResponse, Object> treeAccessor;
+
+    CategoryField(
+            String jsonName,
+            Function<CategoryResponse, Object> accessor,
+            Function<CategoryTreeResponse, Object> treeAccessor) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+        this.treeAccessor = treeAccessor;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parse a comma-separated {@code fields} parameter
+     *
+     * @return the requested fields, or null if the parameter is absent (all fields)
+     * @throws BusinessException if a field name is unknown
+     */
+    public static Set<CategoryField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        EnumSet<CategoryField> selected = EnumSet.noneOf(CategoryField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                .filter(field -> field.jsonName.equals(trimmed))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.BAD_REQUEST, "Unknown category field: " + trimmed)));
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+
+    /**
+     * Canonical form of a field set (declaration order), e.g. for ETags
+     */
+    public static String toParam(Set<CategoryField> fields) {
+        return fields.stream().map(CategoryField::getJsonName).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Only the selected fields of a category, keyed by JSON name
+     */
+    public static Map<String, Object> select(CategoryResponse category, Set<CategoryField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (CategoryField field : fields) {
+            values.put(field.jsonName, field.accessor.apply(category));
+        }
+        return values;
+    }
+
+    /**
+     * Only the selected fields of a tree node, plus its (equally narrowed) children
+     */
+    public static Map<String, Object> select(CategoryTreeResponse node, Set<CategoryField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (CategoryField field : fields) {
+            values.put(field.jsonName, field.treeAccessor.apply(node));
+        }
+        values.put("children", node.children().stream().map(child -> select(child, fields)).toList());
+        return values;
+    }
+}
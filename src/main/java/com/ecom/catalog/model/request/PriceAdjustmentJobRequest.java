@@ -0,0 +1,31 @@
+package com.ecom.catalog.model.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Request DTO for a mass price change job
+ */
+public record PriceAdjustmentJobRequest(
+    /**
+     * Only products of this category (optional; all products otherwise)
+     */
+    @JsonProperty("category_id")
+    UUID categoryId,
+
+    /**
+     * Price change in percent, e.g. 10 (+10%) or -15 (-15%); results are rounded to cents
+     */
+    @NotNull(message = "Percent is required")
+    @DecimalMin(value = "-99.99", message = "Percent must be greater than -100")
+    @DecimalMax(value = "1000", message = "Percent must not exceed 1000")
+    @Digits(integer = 4, fraction = 2, message = "Percent must have at most 2 decimal places")
+    BigDecimal percent
+) {
+}
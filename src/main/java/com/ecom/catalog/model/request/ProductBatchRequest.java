@@ -0,0 +1,19 @@
+package com.ecom.catalog.model.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for fetching many products by ID in one call
+ */
+public record ProductBatchRequest(
+    /**
+     * Product IDs (duplicates are ignored; at most catalog.product.batch.max-size)
+     */
+    @NotEmpty(message = "At least one product ID is required")
+    List<@NotNull(message = "Product IDs must not be null") UUID> ids
+) {
+}
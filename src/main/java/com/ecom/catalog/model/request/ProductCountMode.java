@@ -0,0 +1,21 @@
+package com.ecom.catalog.model.request;
+
+/**
+ * How the total result count of a search is computed
+ */
+public enum ProductCountMode {
+    /**
+     * Full COUNT(*) over all matches
+     */
+    EXACT,
+
+    /**
+     * Count stopped at a cap (e.g. "10,000+"); exact whenever the total is below the cap
+     */
+    ESTIMATED,
+
+    /**
+     * No count; clients rely on is_last / next_cursor
+     */
+    NONE
+}
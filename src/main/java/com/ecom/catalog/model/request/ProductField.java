@@ -0,0 +1,87 @@
+package com.ecom.catalog.model.request;
+
+import com.ecom.catalog.model.response.ProductResponse;
+import com.ecom.error.exception.BusinessException;
+import com.ecom.error.model.ErrorCode;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Selectable fields of a product for sparse fieldsets ({@code fields=price,currency})
+ *
+ * <p>Field names are the JSON property names of {@link ProductResponse}.
+ */
+public enum ProductField {
+    PRODUCT_ID("product_id", ProductResponse::productId),
+    NAME("name", ProductResponse::name),
+    SKU("sku", ProductResponse::sku),
+    DESCRIPTION("description", ProductResponse::description),
+    PRICE("price", ProductResponse::price),
+    CURRENCY("currency", ProductResponse::currency),
+    CATEGORY_ID("category_id", ProductResponse::categoryId),
+    SELLER_ID("seller_id", ProductResponse::sellerId),
+    IMAGES("images", ProductResponse::images),
+    STATUS("status", ProductResponse::status),
+    CREATED_AT("created_at", ProductResponse::createdAt),
+    UPDATED_AT("updated_at", ProductResponse::updatedAt);
+
+    private final String jsonName;
+    private final Function<ProductResponse, Object> accessor;
+
+    ProductField(String jsonName, Function<ProductResponse, Object> accessor) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parse a comma-separated {@code fields} parameter
+     *
+     * @return the requested fields, or null if the parameter is absent (all fields)
+     * @throws BusinessException if a field name is unknown
+     */
+    public static Set<ProductField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        EnumSet<ProductField> selected = EnumSet.noneOf(ProductField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                .filter(field -> field.jsonName.equals(trimmed))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.BAD_REQUEST, "Unknown product field: " + trimmed)));
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+
+    /**
+     * Canonical form of a field set (declaration order), e.g. for ETags
+     */
+    public static String toParam(Set<ProductField> fields) {
+        return fields.stream().map(ProductField::getJsonName).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Only the selected fields of a product, keyed by JSON name
+     */
+    public static Map<String, Object> select(ProductResponse product, Set<ProductField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ProductField field : fields) {
+            values.put(field.jsonName, field.accessor.apply(product));
+        }
+        return values;
+    }
+}
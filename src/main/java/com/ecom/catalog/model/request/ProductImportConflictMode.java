@@ -0,0 +1,16 @@
+package com.ecom.catalog.model.request;
+
+/**
+ * What a bulk import does with rows whose SKU already exists in the tenant
+ */
+public enum ProductImportConflictMode {
+    /**
+     * Keep the existing product and count the row as skipped
+     */
+    SKIP,
+
+    /**
+     * Overwrite the existing product (only products of the importing seller, unless ADMIN)
+     */
+    UPDATE
+}
@@ -0,0 +1,17 @@
+package com.ecom.catalog.model.request;
+
+/**
+ * Input format of a bulk product import
+ */
+public enum ProductImportFormat {
+    /**
+     * One ProductRequest JSON object per line
+     */
+    NDJSON,
+
+    /**
+     * Header row followed by one product per line (columns: name, sku, description,
+     * price, currency, category_id, images, status; images separated by '|')
+     */
+    CSV
+}
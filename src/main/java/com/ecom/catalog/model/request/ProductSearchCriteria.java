@@ -0,0 +1,155 @@
+package com.ecom.catalog.model.request;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Normalized product search parameters
+ *
+ * <p>Two searches with equal criteria return the same results, so this record is used
+ * as the key for coalescing (and caching) identical searches. Use {@link #of} so that
+ * equivalent inputs (e.g. a blank query and no query) produce equal criteria.
+ *
+ * <p>Searches run in one of two paging modes: page-number mode (page/size, OFFSET based,
+ * results ordered by relevance, or newest first without one) or cursor mode, selected
+ * by giving a {@code sort} or a {@code cursor}, which seeks past the last returned row
+ * with a keyset predicate.
+ */
+public record ProductSearchCriteria(
+    /**
+     * Tenant ID
+     */
+    UUID tenantId,
+
+    /**
+     * Search query (trimmed, null if blank)
+     */
+    String query,
+
+    /**
+     * How the query is matched (defaults to FULL_TEXT)
+     */
+    ProductSearchMode mode,
+
+    /**
+     * Optional category ID
+     */
+    UUID categoryId,
+
+    /**
+     * Optional minimum price (scale stripped)
+     */
+    BigDecimal minPrice,
+
+    /**
+     * Optional maximum price (scale stripped)
+     */
+    BigDecimal maxPrice,
+
+    /**
+     * Optional stock filter: true for products in stock, false for out of stock
+     * (per the product_stock read model)
+     */
+    Boolean inStock,
+
+    /**
+     * Keyset sort order; non-null selects cursor mode
+     */
+    ProductSort sort,
+
+    /**
+     * Position to continue after (cursor mode, null for the first page)
+     */
+    ProductSearchCursor after,
+
+    /**
+     * How the total count is computed (page-number mode; cursor mode never counts)
+     */
+    ProductCountMode countMode,
+
+    /**
+     * Shape of the returned products (defaults to FULL)
+     */
+    ProductSearchView view,
+
+    /**
+     * Sparse fieldset (null for all fields); takes precedence over the view
+     */
+    Set<ProductField> fields,
+
+    /**
+     * Price histogram bucket width when facets are requested, null otherwise
+     */
+    BigDecimal facetBucketWidth,
+
+    /**
+     * Page number (0-based, page-number mode only)
+     */
+    int page,
+
+    /**
+     * Page size
+     */
+    int size
+) {
+    /**
+     * Build normalized criteria from raw request values
+     */
+    public static ProductSearchCriteria of(
+            UUID tenantId,
+            String query,
+            ProductSearchMode mode,
+            UUID categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock,
+            ProductSort sort,
+            String cursor,
+            ProductCountMode countMode,
+            ProductSearchView view,
+            Set<ProductField> fields,
+            BigDecimal facetBucketWidth,
+            int page,
+            int size) {
+        ProductSearchCursor after = cursor != null && !cursor.isBlank()
+            ? ProductSearchCursor.decode(cursor)
+            : null;
+        String normalizedQuery = query != null && !query.isBlank() ? query.trim() : null;
+        return new ProductSearchCriteria(
+            tenantId,
+            normalizedQuery,
+            mode != null ? mode : ProductSearchMode.FULL_TEXT,
+            categoryId,
+            minPrice != null ? minPrice.stripTrailingZeros() : null,
+            maxPrice != null ? maxPrice.stripTrailingZeros() : null,
+            inStock,
+            after != null ? after.sort() : sort,
+            after,
+            after != null || sort != null
+                ? ProductCountMode.NONE
+                : countMode != null ? countMode : ProductCountMode.ESTIMATED,
+            view != null ? view : ProductSearchView.FULL,
+            fields != null ? Collections.unmodifiableSet(EnumSet.copyOf(fields)) : null,
+            facetBucketWidth != null ? facetBucketWidth.stripTrailingZeros() : null,
+            after != null || sort != null ? 0 : page,
+            size
+        );
+    }
+
+    /**
+     * Whether this search uses cursor (keyset) pagination
+     */
+    public boolean isCursorMode() {
+        return sort != null;
+    }
+
+    /**
+     * Whether facet counts were requested
+     */
+    public boolean hasFacets() {
+        return facetBucketWidth != null;
+    }
+}
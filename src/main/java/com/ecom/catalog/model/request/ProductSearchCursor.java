@@ -0,0 +1,84 @@
+package com.ecom.catalog.model.request;
+
+import com.ecom.error.exception.BusinessException;
+import com.ecom.error.model.ErrorCode;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a keyset-paginated product listing
+ *
+ * <p>Holds the sort key of the last product returned. Clients only ever see the opaque
+ * string from {@link #encode()}, which embeds the sort order so the next request needs
+ * nothing but the cursor.
+ */
+public record ProductSearchCursor(
+    /**
+     * Sort order the cursor belongs to
+     */
+    ProductSort sort,
+
+    /**
+     * created_at of the last product (NEWEST only)
+     */
+    LocalDateTime createdAt,
+
+    /**
+     * price of the last product (PRICE_ASC / PRICE_DESC only)
+     */
+    BigDecimal price,
+
+    /**
+     * ID of the last product (tie-breaker)
+     */
+    UUID id
+) {
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Cursor positioned after a product with the given sort key values
+     */
+    public static ProductSearchCursor after(ProductSort sort, LocalDateTime createdAt, BigDecimal price, UUID id) {
+        return sort == ProductSort.NEWEST
+            ? new ProductSearchCursor(sort, createdAt, null, id)
+            : new ProductSearchCursor(sort, null, price, id);
+    }
+
+    /**
+     * Encode as an opaque, URL-safe string
+     */
+    public String encode() {
+        String key = sort == ProductSort.NEWEST ? createdAt.toString() : price.toPlainString();
+        String raw = sort.name() + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode()}
+     *
+     * @throws BusinessException if the cursor is malformed
+     */
+    public static ProductSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Unexpected cursor format");
+            }
+            ProductSort sort = ProductSort.valueOf(parts[0]);
+            UUID id = UUID.fromString(parts[2]);
+            return sort == ProductSort.NEWEST
+                ? new ProductSearchCursor(sort, LocalDateTime.parse(parts[1]), null, id)
+                : new ProductSearchCursor(sort, null, new BigDecimal(parts[1]), id);
+        } catch (RuntimeException e) {
+            throw new BusinessException(
+                ErrorCode.BAD_REQUEST,
+                "Invalid cursor"
+            );
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecom.catalog.model.request;
+
+/**
+ * How the search query is matched against products
+ */
+public enum ProductSearchMode {
+    /**
+     * Postgres full-text search (websearch_to_tsquery) over name and description,
+     * ordered by ts_rank. Served by the GIN index on products.search_vector.
+     */
+    FULL_TEXT,
+
+    /**
+     * Typo-tolerant and substring match on name and SKU using pg_trgm, ordered by
+     * similarity. Served by the trigram GIN indexes on products.name and products.sku.
+     */
+    FUZZY,
+
+    /**
+     * Case-insensitive substring match (LIKE '%query%') on name and description.
+     * Cannot use an index; kept as a fallback for inputs full-text search does not match.
+     */
+    LIKE
+}
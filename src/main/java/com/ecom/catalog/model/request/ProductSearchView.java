@@ -0,0 +1,16 @@
+package com.ecom.catalog.model.request;
+
+/**
+ * Shape of the products returned by a search
+ */
+public enum ProductSearchView {
+    /**
+     * Complete ProductResponse per product
+     */
+    FULL,
+
+    /**
+     * Listing tile fields only (ProductSummaryResponse): no description, first image only
+     */
+    SUMMARY
+}
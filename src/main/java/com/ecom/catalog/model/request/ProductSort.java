@@ -0,0 +1,24 @@
+package com.ecom.catalog.model.request;
+
+/**
+ * Stable sort orders supported by cursor (keyset) pagination
+ *
+ * <p>Every order ends with the product ID as a tie-breaker so that the sort key is
+ * unique and a cursor identifies an exact position.
+ */
+public enum ProductSort {
+    /**
+     * Newest first: (created_at DESC, id DESC)
+     */
+    NEWEST,
+
+    /**
+     * Cheapest first: (price ASC, id ASC)
+     */
+    PRICE_ASC,
+
+    /**
+     * Most expensive first: (price DESC, id DESC)
+     */
+    PRICE_DESC
+}
@@ -0,0 +1,20 @@
+package com.ecom.catalog.model.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Request DTO for a job moving all products of one category to another
+ */
+public record RecategorizeJobRequest(
+    @NotNull(message = "Source category ID is required")
+    @JsonProperty("from_category_id")
+    UUID fromCategoryId,
+
+    @NotNull(message = "Target category ID is required")
+    @JsonProperty("to_category_id")
+    UUID toCategoryId
+) {
+}
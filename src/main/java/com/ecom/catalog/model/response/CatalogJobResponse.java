@@ -0,0 +1,71 @@
+package com.ecom.catalog.model.response;
+
+import com.ecom.catalog.model.request.CatalogJobType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a catalog job (status polling)
+ * 
+ * <p>{@code processed_rows} = created + updated + skipped + rejected. Throughput is
+ * measured from the first start of the job; the ETA is null until the total is known
+ * and the job has processed rows.
+ */
+public record CatalogJobResponse(
+    @JsonProperty("job_id")
+    UUID jobId,
+
+    CatalogJobType type,
+
+    CatalogJobStatus status,
+
+    /**
+     * Rows the job will process (null while still unknown)
+     */
+    @JsonProperty("total_rows")
+    Long totalRows,
+
+    @JsonProperty("processed_rows")
+    long processedRows,
+
+    long created,
+
+    long updated,
+
+    long skipped,
+
+    long rejected,
+
+    /**
+     * Details of the first rejected rows
+     */
+    List<ProductImportResponse.RowError> errors,
+
+    /**
+     * Failure reason (FAILED jobs)
+     */
+    @JsonProperty("error_message")
+    String errorMessage,
+
+    @JsonProperty("rows_per_second")
+    Long rowsPerSecond,
+
+    /**
+     * Estimated seconds until the job finishes (unfinished jobs only)
+     */
+    @JsonProperty("eta_seconds")
+    Long etaSeconds,
+
+    @JsonProperty("created_at")
+    LocalDateTime createdAt,
+
+    @JsonProperty("started_at")
+    LocalDateTime startedAt,
+
+    @JsonProperty("finished_at")
+    LocalDateTime finishedAt
+) {
+}
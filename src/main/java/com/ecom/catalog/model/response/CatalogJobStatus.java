@@ -0,0 +1,24 @@
+package com.ecom.catalog.model.response;
+
+/**
+ * Lifecycle of a catalog job
+ */
+public enum CatalogJobStatus {
+    /**
+     * Accepted, waiting for a free worker (also after being released by a shutdown)
+     */
+    QUEUED,
+
+    /**
+     * Being processed by the instance holding the lease
+     */
+    RUNNING,
+
+    SUCCEEDED,
+
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
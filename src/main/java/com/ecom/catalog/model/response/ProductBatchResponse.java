@@ -0,0 +1,27 @@
+package com.ecom.catalog.model.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Response DTO for a batch product read
+ * 
+ * <p>Found products are keyed by ID in request order; IDs that do not exist (or are
+ * deleted) in the tenant are listed in {@code missing_ids} instead of failing the call.
+ */
+public record ProductBatchResponse<T>(
+    /**
+     * Found products by ID (ProductResponse, or the requested fields only)
+     */
+    Map<UUID, T> products,
+
+    /**
+     * Requested IDs that were not found
+     */
+    @JsonProperty("missing_ids")
+    List<UUID> missingIds
+) {
+}
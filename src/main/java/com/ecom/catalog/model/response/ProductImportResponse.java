@@ -0,0 +1,70 @@
+package com.ecom.catalog.model.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk product import
+ * 
+ * <p>{@code received} = created + updated + skipped + rejected. Only the first rejected
+ * rows are listed in {@code errors} (see catalog.product.import.max-errors).
+ */
+public record ProductImportResponse(
+    /**
+     * Data rows read from the input
+     */
+    long received,
+
+    /**
+     * New products inserted
+     */
+    long created,
+
+    /**
+     * Existing products overwritten (UPDATE conflict mode)
+     */
+    long updated,
+
+    /**
+     * Rows whose SKU already existed and was left unchanged
+     */
+    long skipped,
+
+    /**
+     * Rows that failed parsing or validation
+     */
+    long rejected,
+
+    /**
+     * Details of the first rejected rows
+     */
+    List<RowError> errors,
+
+    /**
+     * Wall-clock import time
+     */
+    @JsonProperty("duration_ms")
+    long durationMs,
+
+    /**
+     * Throughput (received rows per second)
+     */
+    @JsonProperty("rows_per_second")
+    long rowsPerSecond
+) {
+    /**
+     * A rejected input row
+     */
+    public record RowError(
+        /**
+         * 1-based line number in the input
+         */
+        long line,
+
+        String sku,
+
+        String message
+    ) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecom.catalog.model.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Facet counts for a product search (filter sidebar data)
+ * 
+ * <p>Computed over all products matching the search, not just the current page.
+ */
+public record ProductSearchFacets(
+    /**
+     * Product count per category (category_id null for uncategorized products)
+     */
+    List<CategoryCount> categories,
+
+    /**
+     * Product count per status
+     */
+    List<StatusCount> statuses,
+
+    /**
+     * Price histogram with fixed-width buckets, ordered by price
+     */
+    @JsonProperty("price_histogram")
+    List<PriceBucket> priceHistogram
+) {
+    /**
+     * Products in one category
+     */
+    public record CategoryCount(
+        @JsonProperty("category_id")
+        UUID categoryId,
+
+        long count
+    ) {
+    }
+
+    /**
+     * Products with one status
+     */
+    public record StatusCount(
+        String status,
+
+        long count
+    ) {
+    }
+
+    /**
+     * Products priced in [min, max)
+     */
+    public record PriceBucket(
+        BigDecimal min,
+
+        BigDecimal max,
+
+        long count
+    ) {
+    }
+}
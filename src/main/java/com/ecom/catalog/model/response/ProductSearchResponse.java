@@ -1,17 +1,26 @@
 package com.ecom.catalog.model.response;
 
+import com.ecom.catalog.model.request.ProductCountMode;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
 
 /**
  * Response DTO for product search results with pagination
+ * 
+ * <p>{@code count_mode} states how {@code total_elements} was obtained: EXACT, ESTIMATED
+ * (a lower bound - the count stopped at a cap, render as e.g. "10,000+") or NONE (totals
+ * are -1). In cursor mode {@code page} is always 0, totals are not computed, and
+ * {@code next_cursor} continues the listing.
+ * 
+ * <p>{@code facets} is only present when requested; it counts all matching products,
+ * not just the current page.
  */
-public record ProductSearchResponse(
+public record ProductSearchResponse<T>(
     /**
-     * List of products
+     * List of products (ProductResponse, or ProductSummaryResponse for view=summary)
      */
-    List<ProductResponse> products,
+    List<T> products,
 
     /**
      * Current page number (0-based)
@@ -26,13 +35,13 @@ public record ProductSearchResponse(
     int size,
 
     /**
-     * Total number of elements across all pages
+     * Total number of elements across all pages (-1 if not computed)
      */
     @JsonProperty("total_elements")
     long totalElements,
 
     /**
-     * Total number of pages
+     * Total number of pages (-1 if not computed)
      */
     @JsonProperty("total_pages")
     int totalPages,
@@ -47,7 +56,32 @@ public record ProductSearchResponse(
      * Whether this is the last page
      */
     @JsonProperty("is_last")
-    boolean isLast
+    boolean isLast,
+
+    /**
+     * How total_elements / total_pages were computed
+     */
+    @JsonProperty("count_mode")
+    ProductCountMode countMode,
+
+    /**
+     * Opaque cursor for the next page (cursor mode only; null on the last page)
+     */
+    @JsonProperty("next_cursor")
+    String nextCursor,
+
+    /**
+     * Category / status counts and price histogram (null unless requested)
+     */
+    @JsonProperty("facets")
+    ProductSearchFacets facets
 ) {
+    /**
+     * Copy of this response with facets attached
+     */
+    public ProductSearchResponse<T> withFacets(ProductSearchFacets facets) {
+        return new ProductSearchResponse<>(
+            products, page, size, totalElements, totalPages, isFirst, isLast, countMode, nextCursor, facets);
+    }
 }
 
@@ -0,0 +1,57 @@
+package com.ecom.catalog.model.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Response DTO for a product in a search result listing (view=summary)
+ * 
+ * <p>Carries only what a result tile shows; the full product is fetched from
+ * GET /api/v1/product/{id} when the product is opened.
+ */
+public record ProductSummaryResponse(
+    /**
+     * Product ID
+     */
+    @JsonProperty("product_id")
+    UUID productId,
+
+    /**
+     * Product name
+     */
+    String name,
+
+    /**
+     * Stock Keeping Unit
+     */
+    String sku,
+
+    /**
+     * Product price
+     */
+    BigDecimal price,
+
+    /**
+     * Currency code
+     */
+    String currency,
+
+    /**
+     * Category ID
+     */
+    @JsonProperty("category_id")
+    UUID categoryId,
+
+    /**
+     * First product image URL (null if the product has no images)
+     */
+    String image,
+
+    /**
+     * Product status
+     */
+    String status
+) {
+}
@@ -0,0 +1,14 @@
+package com.ecom.catalog.model.response;
+
+/**
+ * Response DTO for an upsert by SKU
+ */
+public record ProductUpsertResponse(
+    ProductResponse product,
+
+    /**
+     * True if a new product was inserted, false if an existing one was updated
+     */
+    boolean created
+) {
+}
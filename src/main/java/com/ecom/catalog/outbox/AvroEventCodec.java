@@ -0,0 +1,200 @@
+package com.ecom.catalog.outbox;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Avro binary encoding of catalog events
+ *
+ * <p>Events are Java records; each schema field is read from the record component with
+ * the same JSON property name, so the Avro and JSON forms of an event have the same
+ * fields. Compared with JSON, field names are not repeated per record, UUIDs are 16 raw
+ * bytes, timestamps are microsecond longs and prices scaled decimals.
+ *
+ * <p>Type mapping: {@code fixed(16)} for UUID, {@code local-timestamp-micros} for
+ * LocalDateTime, {@code decimal} bytes for BigDecimal (rounded to the schema scale), and
+ * {@code ["null", T]} for nullable values. A string field marked
+ * {@code "encoding": "json"} holds its value as JSON text (used for the untyped
+ * old/new values of change sets).
+ */
+@Component
+@RequiredArgsConstructor
+public class AvroEventCodec {
+
+    private final EventSchemaRegistry schemaRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Schema, DatumWriter<GenericRecord>> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Method>> accessors = new ConcurrentHashMap<>();
+
+    /**
+     * Encode an event with a schema of its class
+     *
+     * @throws IllegalArgumentException if the event does not fit the schema
+     */
+    public byte[] encode(Object event, Schema schema) {
+        GenericRecord record = toRecord(schema, event);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        try {
+            writers.computeIfAbsent(schema, GenericDatumWriter::new).write(record, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode " + schema.getName(), e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a record written with the schema {@code schemaId}, resolved against the
+     * latest schema of the same event (fields added since get their defaults)
+     *
+     * @throws IllegalArgumentException if the schema ID is unknown
+     */
+    public GenericRecord decode(byte[] payload, String schemaId) {
+        EventSchemaRegistry.RegisteredSchema writer = schemaRegistry.get(schemaId);
+        Schema reader = schemaRegistry.latest(writer.javaType()).orElseThrow().schema();
+        try {
+            return new GenericDatumReader<GenericRecord>(writer.schema(), reader)
+                .read(null, DecoderFactory.get().binaryDecoder(payload, null));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed " + writer.schema().getName() + " record", e);
+        }
+    }
+
+    private GenericRecord toRecord(Schema schema, Object event) {
+        Map<String, Method> fields = accessors.computeIfAbsent(event.getClass(), AvroEventCodec::accessorsOf);
+        GenericData.Record record = new GenericData.Record(schema);
+        for (Schema.Field field : schema.getFields()) {
+            Method accessor = fields.get(field.name());
+            if (accessor == null) {
+                throw new IllegalArgumentException(event.getClass().getSimpleName() + " has no field " + field.name());
+            }
+            Object value;
+            try {
+                value = accessor.invoke(event);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Failed to read " + field.name() + " of " + event.getClass().getSimpleName(), e);
+            }
+            record.put(field.pos(), "json".equals(field.getObjectProp("encoding"))
+                ? toJson(value)
+                : toAvro(field.schema(), value, field.name()));
+        }
+        return record;
+    }
+
+    private Object toAvro(Schema schema, Object value, String path) {
+        switch (schema.getType()) {
+            case UNION -> {
+                for (Schema branch : schema.getTypes()) {
+                    if (value == null ? branch.getType() == Schema.Type.NULL : branch.getType() != Schema.Type.NULL) {
+                        return value == null ? null : toAvro(branch, value, path);
+                    }
+                }
+                throw new IllegalArgumentException(path + ": no union branch for " + value);
+            }
+            case NULL -> {
+                return null;
+            }
+            case FIXED -> {
+                UUID uuid = (UUID) value;
+                return new GenericData.Fixed(schema, ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array());
+            }
+            case LONG -> {
+                if (value instanceof LocalDateTime time) {
+                    return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+                }
+                return ((Number) value).longValue();
+            }
+            case BYTES -> {
+                int scale = (Integer) schema.getObjectProp("scale");
+                return ByteBuffer.wrap(((BigDecimal) value).setScale(scale, RoundingMode.HALF_UP)
+                    .unscaledValue().toByteArray());
+            }
+            case STRING -> {
+                return value.toString();
+            }
+            case MAP -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                ((Map<?, ?>) value).forEach((key, entry) ->
+                    map.put(key.toString(), toAvro(schema.getValueType(), entry, path + "." + key)));
+                return map;
+            }
+            case ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                for (Object item : (List<?>) value) {
+                    list.add(toAvro(schema.getElementType(), item, path + "[]"));
+                }
+                return list;
+            }
+            case RECORD -> {
+                return toRecord(schema, value);
+            }
+            default -> {
+                // BOOLEAN, INT, FLOAT, DOUBLE
+                return value;
+            }
+        }
+    }
+
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Record accessors keyed by JSON property name (component name if not annotated)
+     */
+    private static Map<String, Method> accessorsOf(Class<?> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type.getSimpleName() + " is not a record");
+        }
+        Map<String, Method> fields = new HashMap<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            Method accessor = component.getAccessor();
+            JsonProperty property = accessor.getAnnotation(JsonProperty.class);
+            fields.put(property != null && !property.value().isEmpty() ? property.value() : component.getName(), accessor);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecom.catalog.outbox;
+
+import com.ecom.catalog.repository.CatalogOutboxRepository;
+import com.ecom.catalog.repository.projection.OutboxMessageRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transactional outbox for Kafka events
+ *
+ * <p>Services enqueue events instead of sending them: the event is inserted into
+ * catalog_outbox in the caller's transaction, so it is stored if and only if the change
+ * it describes commits, and the caller never waits on the broker. {@link OutboxRelay}
+ * publishes stored events in the background.
+ *
+ * <p>Events are encoded when they are enqueued, with the encoding configured by
+ * {@code catalog.events.encoding}, and each row keeps its content type. Switching to AVRO
+ * therefore only affects new events; consumers pick the decoder per record from the
+ * {@code content-type} header, so they can be moved over before the producer is. Events
+ * without a schema in the {@link EventSchemaRegistry} are always sent as JSON.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogOutbox {
+
+    private final CatalogOutboxRepository outboxRepository;
+    private final EventSchemaRegistry schemaRegistry;
+    private final AvroEventCodec avroCodec;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Encoding of new events: JSON, or AVRO for events with a registered schema
+     */
+    @Value("${catalog.events.encoding:JSON}")
+    private EventEncoding encoding;
+
+    /**
+     * Store one event for publication
+     *
+     * @throws org.springframework.transaction.IllegalTransactionStateException if called outside a transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, String key, Object event) {
+        enqueueAll(List.of(new OutboxMessage(topic, key, event)));
+    }
+
+    /**
+     * Store several events for publication with one JDBC batch
+     *
+     * @throws org.springframework.transaction.IllegalTransactionStateException if called outside a transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<OutboxMessage> messages) {
+        outboxRepository.append(messages.stream()
+            .map(this::toRow)
+            .toList());
+    }
+
+    private OutboxMessageRow toRow(OutboxMessage message) {
+        Object event = message.event();
+        Optional<EventSchemaRegistry.RegisteredSchema> schema = encoding == EventEncoding.AVRO
+            ? schemaRegistry.latest(event.getClass())
+            : Optional.empty();
+        return new OutboxMessageRow(
+            null,
+            UUID.randomUUID(),
+            message.topic(),
+            message.key(),
+            event.getClass().getName(),
+            schema.map(registered -> avroCodec.encode(event, registered.schema())).orElseGet(() -> toJson(event)),
+            schema.isPresent() ? EventEncoding.AVRO.getContentType() : EventEncoding.JSON.getContentType(),
+            schema.map(EventSchemaRegistry.RegisteredSchema::id).orElse(null),
+            null);
+    }
+
+    private byte[] toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize event " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecom.catalog.outbox;
+
+/**
+ * Wire encoding of catalog events, announced by the {@code content-type} header
+ */
+public enum EventEncoding {
+    /**
+     * Jackson JSON (readable by JsonDeserializer through the __TypeId__ header)
+     */
+    JSON("application/json"),
+
+    /**
+     * Avro binary; the {@code schema-id} header names the writer schema in the
+     * {@link EventSchemaRegistry}
+     */
+    AVRO("application/avro");
+
+    private final String contentType;
+
+    EventEncoding(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ecom.catalog.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaNormalization;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * File-based stand-in for a schema registry
+ *
+ * <p>Loads the Avro schemas of catalog events from {@code classpath:schemas/*.avsc}. Each
+ * schema names the Java event it describes ({@code javaType}) and its {@code version};
+ * a new version of an event is a new file next to the old ones, which stay so that
+ * records written with them can still be read. A schema is identified on the wire by its
+ * 64-bit Avro parsing fingerprint ({@code schema-id} header), so consumers that ship the
+ * same files can look up the writer schema without a registry service.
+ *
+ * <p>Startup fails if two files share a fingerprint or an event's latest schema cannot
+ * read records written with an earlier one.
+ */
+@Component
+@Slf4j
+public class EventSchemaRegistry {
+
+    private static final String LOCATION = "classpath*:schemas/*.avsc";
+
+    /**
+     * A registered schema
+     *
+     * @param id Parsing fingerprint as 16 hex digits ({@code schema-id} header)
+     * @param javaType Event class name
+     */
+    public record RegisteredSchema(String id, String javaType, int version, Schema schema) {
+    }
+
+    private final Map<String, RegisteredSchema> byId = new HashMap<>();
+    private final Map<String, RegisteredSchema> latestByType = new HashMap<>();
+
+    public EventSchemaRegistry() {
+        Map<String, List<RegisteredSchema>> byType = new HashMap<>();
+        for (Resource resource : resources()) {
+            RegisteredSchema registered = parse(resource);
+            RegisteredSchema duplicate = byId.putIfAbsent(registered.id(), registered);
+            if (duplicate != null) {
+                throw new IllegalStateException("Schema " + resource.getFilename() + " has the same fingerprint as "
+                    + duplicate.javaType() + " v" + duplicate.version());
+            }
+            byType.computeIfAbsent(registered.javaType(), type -> new ArrayList<>()).add(registered);
+        }
+
+        byType.forEach((javaType, versions) -> {
+            versions.sort(Comparator.comparingInt(RegisteredSchema::version));
+            RegisteredSchema latest = versions.get(versions.size() - 1);
+            for (RegisteredSchema older : versions.subList(0, versions.size() - 1)) {
+                SchemaCompatibility.SchemaPairCompatibility compatibility =
+                    SchemaCompatibility.checkReaderWriterCompatibility(latest.schema(), older.schema());
+                if (compatibility.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+                    throw new IllegalStateException("Schema v" + latest.version() + " of " + javaType
+                        + " cannot read v" + older.version() + ": " + compatibility.getDescription());
+                }
+            }
+            latestByType.put(javaType, latest);
+        });
+        log.info("Event schema registry initialised: {} schemas for {} event types", byId.size(), latestByType.size());
+    }
+
+    /**
+     * Latest schema of an event class, empty if the class has none
+     */
+    public Optional<RegisteredSchema> latest(Class<?> eventType) {
+        return latest(eventType.getName());
+    }
+
+    /**
+     * Latest schema of an event class given by name, empty if the class has none
+     */
+    public Optional<RegisteredSchema> latest(String javaType) {
+        return Optional.ofNullable(latestByType.get(javaType));
+    }
+
+    /**
+     * Schema with the given ID
+     *
+     * @throws IllegalArgumentException if no schema has the ID
+     */
+    public RegisteredSchema get(String id) {
+        RegisteredSchema registered = byId.get(id);
+        if (registered == null) {
+            throw new IllegalArgumentException("Unknown schema ID: " + id);
+        }
+        return registered;
+    }
+
+    private static Resource[] resources() {
+        try {
+            return new PathMatchingResourcePatternResolver().getResources(LOCATION);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list event schemas", e);
+        }
+    }
+
+    private static RegisteredSchema parse(Resource resource) {
+        Schema schema;
+        try (InputStream input = resource.getInputStream()) {
+            schema = new Schema.Parser().parse(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read event schema " + resource.getFilename(), e);
+        }
+        Object javaType = schema.getObjectProp("javaType");
+        Object version = schema.getObjectProp("version");
+        if (!(javaType instanceof String) || !(version instanceof Number)) {
+            throw new IllegalStateException("Event schema " + resource.getFilename() + " needs javaType and version");
+        }
+        String id = String.format("%016x", SchemaNormalization.parsingFingerprint64(schema));
+        return new RegisteredSchema(id, (String) javaType, ((Number) version).intValue(), schema);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ecom.catalog.outbox;
+
+/**
+ * An event to publish through the outbox
+ *
+ * @param key Kafka message key (events with the same key keep their order)
+ * @param event Event object, encoded as configured by {@code catalog.events.encoding}
+ */
+public record OutboxMessage(String topic, String key, Object event) {
+}
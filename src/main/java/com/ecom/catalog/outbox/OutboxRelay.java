@@ -0,0 +1,344 @@
+package com.ecom.catalog.outbox;
+
+import com.ecom.catalog.repository.CatalogOutboxRepository;
+import com.ecom.catalog.repository.projection.OutboxMessageRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes outbox events to Kafka in batches
+ *
+ * <p>Each poll claims a batch of the oldest pending rows in a short transaction, giving
+ * them a lease so relays on other instances skip them (see
+ * {@link CatalogOutboxRepository#claim}); no database transaction is open while the
+ * batch is sent. The outcome is recorded in a second short transaction. Full batches are
+ * drained back to back.
+ *
+ * <p>Per-key order is kept: the events of one key are sent one after another, each
+ * only once the previous one is acknowledged, while different keys are sent together
+ * so the producer can still batch. When an event fails, the key's later events are not
+ * sent; they stay behind it until it succeeds or is dead-lettered.
+ *
+ * <p>A claimed batch never outlives its lease: no send starts after send-timeout, a
+ * send blocks for at most the producer's {@code max.block.ms}, and a send that fails
+ * before returning (broker or topic metadata unavailable) ends the batch. Otherwise
+ * another relay could re-claim rows that are still being sent.
+ *
+ * <p>Delivery is at least once: if the instance dies between the broker ack and the
+ * commit, the events are sent again once their lease expires. Every record carries the
+ * row's {@code event_id} header, which stays the same across redeliveries, so consumers
+ * deduplicate on it. The {@code content-type} header gives the payload's encoding and,
+ * for Avro, the {@code schema-id} header its writer schema (see {@link EventSchemaRegistry}).
+ *
+ * <p>Failed events are retried with exponential back-off; after {@code max-attempts}
+ * they are dead-lettered (kept in the outbox, never sent again) so one poison event
+ * cannot stall its key forever.
+ *
+ * <p>Metrics: {@code catalog.outbox.pending} (pending rows),
+ * {@code catalog.outbox.lag} (age of the oldest pending row, seconds),
+ * {@code catalog.outbox.dead} (dead-lettered rows),
+ * {@code catalog.outbox.delivery} (time from enqueue to ack),
+ * {@code catalog.outbox.send{topic,result}} (producer send to ack), and the
+ * {@code catalog.outbox.published} / {@code catalog.outbox.failed} /
+ * {@code catalog.outbox.dead_lettered} counters.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    /**
+     * Header carrying the outbox row's event ID (consumer-side deduplication)
+     */
+    public static final String EVENT_ID_HEADER = "event_id";
+
+    /**
+     * Header carrying the payload encoding ({@link EventEncoding#getContentType()})
+     */
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+
+    /**
+     * Header carrying the writer schema ID of an Avro payload
+     */
+    public static final String SCHEMA_ID_HEADER = "schema-id";
+
+    /**
+     * Header JsonDeserializer uses to pick the target type
+     */
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final CatalogOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration sendTimeout;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration retention;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer deliveryTimer;
+
+    public OutboxRelay(
+            CatalogOutboxRepository outboxRepository,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.outbox.relay.enabled:true}") boolean enabled,
+            @Value("${catalog.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${catalog.outbox.relay.max-batches-per-poll:20}") int maxBatchesPerPoll,
+            @Value("${catalog.outbox.relay.send-timeout:PT35S}") Duration sendTimeout,
+            @Value("${catalog.kafka.producer.max-block:PT5S}") Duration maxBlock,
+            @Value("${catalog.outbox.relay.lease:PT2M}") Duration lease,
+            @Value("${catalog.outbox.relay.max-attempts:20}") int maxAttempts,
+            @Value("${catalog.outbox.relay.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${catalog.outbox.relay.max-retry-backoff:PT5M}") Duration maxRetryBackoff,
+            @Value("${catalog.outbox.retention:P1D}") Duration retention) {
+        // A batch starts sends for up to send-timeout, the last one may block for max-block,
+        // and each is awaited for up to send-timeout
+        if (lease.compareTo(sendTimeout.multipliedBy(2).plus(maxBlock)) <= 0) {
+            throw new IllegalArgumentException("catalog.outbox.relay.lease (" + lease + ") must exceed twice the "
+                + "send-timeout (" + sendTimeout + ") plus catalog.kafka.producer.max-block (" + maxBlock + ")");
+        }
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.sendTimeout = sendTimeout;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.retention = retention;
+
+        Gauge.builder("catalog.outbox.pending", pending, AtomicLong::get)
+            .description("Outbox events not yet published")
+            .register(meterRegistry);
+        Gauge.builder("catalog.outbox.lag", lagSeconds, AtomicLong::get)
+            .description("Age of the oldest unpublished outbox event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("catalog.outbox.dead", dead, AtomicLong::get)
+            .description("Outbox events dead-lettered after max attempts")
+            .register(meterRegistry);
+        this.publishedCounter = meterRegistry.counter("catalog.outbox.published");
+        this.failedCounter = meterRegistry.counter("catalog.outbox.failed");
+        this.deadLetteredCounter = meterRegistry.counter("catalog.outbox.dead_lettered");
+        this.deliveryTimer = Timer.builder("catalog.outbox.delivery")
+            .description("Time from enqueue to broker acknowledgement")
+            .register(meterRegistry);
+        log.info("Outbox relay initialised: enabled={}, batchSize={}, sendTimeout={}, maxAttempts={}",
+            enabled, batchSize, sendTimeout, maxAttempts);
+    }
+
+    /**
+     * Publish pending events: batch after batch while batches come back full
+     */
+    @Scheduled(fixedDelayString = "${catalog.outbox.relay.poll-interval:PT0.5S}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                if (publishBatch() < batchSize) {
+                    break;
+                }
+            }
+            refreshBacklog();
+        } catch (Exception e) {
+            log.error("Outbox relay failed", e);
+        }
+    }
+
+    /**
+     * Drop published events older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${catalog.outbox.purge-interval:PT10M}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+            if (deleted > 0) {
+                log.debug("Purged {} published outbox events", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Outbox purge failed", e);
+        }
+    }
+
+    /**
+     * @return Number of events published (a full batch means more may be waiting)
+     */
+    private int publishBatch() {
+        List<OutboxMessageRow> batch = transactionTemplate.execute(status -> outboxRepository.claim(batchSize, lease));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // One queue per key, in id order; each round sends the next event of every key
+        Map<String, Deque<OutboxMessageRow>> queues = new LinkedHashMap<>();
+        for (OutboxMessageRow message : batch) {
+            queues.computeIfAbsent(message.topic() + "/" + message.messageKey(), key -> new ArrayDeque<>()).add(message);
+        }
+
+        long sendDeadline = System.nanoTime() + sendTimeout.toNanos();
+        List<Long> published = new ArrayList<>(batch.size());
+        List<Long> failed = new ArrayList<>();
+        List<Long> unsent = new ArrayList<>();
+        String lastError = null;
+        boolean stopped = false;
+        while (!queues.isEmpty()) {
+            // Send the round first so the producer can batch it, then collect the acks. No
+            // send starts after the deadline, and a send that fails before returning (e.g.
+            // no metadata within max-block) ends the round: the broker is unusable for now
+            List<Deque<OutboxMessageRow>> round = new ArrayList<>();
+            List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>();
+            List<Long> startNanos = new ArrayList<>();
+            for (Deque<OutboxMessageRow> queue : queues.values()) {
+                if (stopped || System.nanoTime() - sendDeadline >= 0) {
+                    stopped = true;
+                    break;
+                }
+                long start = System.nanoTime();
+                CompletableFuture<SendResult<String, byte[]>> send = send(queue.peekFirst());
+                round.add(queue);
+                sends.add(send);
+                startNanos.add(start);
+                stopped = send.isCompletedExceptionally();
+            }
+            for (int i = 0; i < round.size(); i++) {
+                Deque<OutboxMessageRow> queue = round.get(i);
+                OutboxMessageRow message = queue.pollFirst();
+                String error = await(sends.get(i), startNanos.get(i));
+                if (error == null) {
+                    published.add(message.id());
+                    deliveryTimer.record(Duration.between(message.createdAt(), LocalDateTime.now()));
+                } else {
+                    // The key's later events wait until this one is delivered
+                    failed.add(message.id());
+                    queue.forEach(later -> unsent.add(later.id()));
+                    queue.clear();
+                    lastError = error;
+                }
+            }
+            queues.values().removeIf(Deque::isEmpty);
+            if (stopped) {
+                // The rest goes back to the outbox untouched
+                queues.values().forEach(queue -> queue.forEach(message -> unsent.add(message.id())));
+                break;
+            }
+        }
+
+        String error = lastError;
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> deadLettered = transactionTemplate.execute(status -> {
+            outboxRepository.markPublished(published, now);
+            outboxRepository.release(unsent);
+            return outboxRepository.markFailed(failed, error, maxAttempts, retryBackoff, maxRetryBackoff);
+        });
+        publishedCounter.increment(published.size());
+        if (!failed.isEmpty()) {
+            failedCounter.increment(failed.size());
+            log.warn("Failed to publish {} of {} outbox events: {}", failed.size(), batch.size(), lastError);
+        }
+        if (deadLettered != null && !deadLettered.isEmpty()) {
+            deadLetteredCounter.increment(deadLettered.size());
+            log.error("Dead-lettered outbox events {} after {} attempts: {}", deadLettered, maxAttempts, lastError);
+        }
+        return published.size();
+    }
+
+    /**
+     * Wait for a send's ack, for up to send-timeout after it was started
+     *
+     * <p>send-timeout exceeds the producer's delivery timeout, so a send that times out
+     * here has been given up by the producer too and cannot land after a retry.
+     *
+     * @return null when acknowledged, otherwise the error
+     */
+    private String await(CompletableFuture<SendResult<String, byte[]>> send, long startNanos) {
+        long remaining = startNanos + sendTimeout.toNanos() - System.nanoTime();
+        try {
+            send.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return String.valueOf(e.getCause());
+        } catch (TimeoutException e) {
+            return "Send timed out after " + sendTimeout;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted";
+        }
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxMessageRow message) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(message.topic(), message.messageKey(), message.payload());
+        record.headers().add(new RecordHeader(EVENT_ID_HEADER, message.eventId().toString().getBytes(StandardCharsets.UTF_8)));
+        record.headers().add(new RecordHeader(TYPE_ID_HEADER, message.typeId().getBytes(StandardCharsets.UTF_8)));
+        record.headers().add(new RecordHeader(CONTENT_TYPE_HEADER, message.contentType().getBytes(StandardCharsets.UTF_8)));
+        if (message.schemaId() != null) {
+            record.headers().add(new RecordHeader(SCHEMA_ID_HEADER, message.schemaId().getBytes(StandardCharsets.UTF_8)));
+        }
+        long startNanos = System.nanoTime();
+        try {
+            // Completion callbacks run on the producer I/O thread; only record metrics there
+            return kafkaTemplate.send(record).whenComplete((result, error) -> meterRegistry
+                .timer("catalog.outbox.send", "topic", message.topic(), "result", error == null ? "success" : "failure")
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+        } catch (Exception e) {
+            // Synchronous failures (e.g. metadata timeout) are handled like failed acks
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void refreshBacklog() {
+        CatalogOutboxRepository.Backlog backlog = outboxRepository.backlog();
+        pending.set(backlog.pending());
+        dead.set(backlog.dead());
+        lagSeconds.set(backlog.oldest() != null
+            ? Math.max(0, Duration.between(backlog.oldest(), LocalDateTime.now()).toSeconds())
+            : 0);
+    }
+}
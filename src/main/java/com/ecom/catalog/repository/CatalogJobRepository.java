@@ -0,0 +1,120 @@
+package com.ecom.catalog.repository;
+
+import com.ecom.catalog.entity.CatalogJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for CatalogJob entity
+ * 
+ * <p>Updates made while a job runs are guarded by {@code owner}: they affect no row once
+ * another instance has taken the job over, which tells the old owner to stop.
+ */
+@Repository
+public interface CatalogJobRepository extends JpaRepository<CatalogJob, UUID> {
+
+    /**
+     * Find a job by ID within tenant
+     */
+    Optional<CatalogJob> findByIdAndTenantId(UUID id, UUID tenantId);
+
+    /**
+     * Count a tenant's jobs in the given statuses (admission control)
+     */
+    long countByTenantIdAndStatusIn(UUID tenantId, Collection<String> statuses);
+
+    /**
+     * Lock jobs that can be started: queued ones, and running ones whose lease expired
+     * 
+     * <p>Must run in a transaction. SKIP LOCKED lets several instances claim concurrently
+     * without waiting on each other or claiming the same job.
+     */
+    @Query(value = "SELECT * FROM catalog_jobs " +
+           "WHERE status IN ('QUEUED', 'RUNNING') " +
+           "AND (status = 'QUEUED' OR heartbeat_at < :staleBefore) " +
+           "ORDER BY created_at " +
+           "LIMIT :limit " +
+           "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<CatalogJob> lockClaimable(@Param("staleBefore") LocalDateTime staleBefore, @Param("limit") int limit);
+
+    /**
+     * Store progress after a chunk and renew the lease
+     * 
+     * @return 1, or 0 if the lease was lost
+     */
+    @Modifying
+    @Query("UPDATE CatalogJob j SET j.checkpoint = :checkpoint, j.processedRows = :processed, " +
+           "j.createdRows = :created, j.updatedRows = :updated, j.skippedRows = :skipped, " +
+           "j.rejectedRows = :rejected, j.errors = :errors, j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.owner = :owner AND j.status = 'RUNNING'")
+    int checkpoint(
+        @Param("id") UUID id,
+        @Param("owner") String owner,
+        @Param("checkpoint") String checkpoint,
+        @Param("processed") long processed,
+        @Param("created") long created,
+        @Param("updated") long updated,
+        @Param("skipped") long skipped,
+        @Param("rejected") long rejected,
+        @Param("errors") String errors,
+        @Param("now") LocalDateTime now);
+
+    /**
+     * Record the number of rows the job will process
+     * 
+     * @return 1, or 0 if the lease was lost
+     */
+    @Modifying
+    @Query("UPDATE CatalogJob j SET j.totalRows = :total, j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.owner = :owner AND j.status = 'RUNNING'")
+    int updateTotal(
+        @Param("id") UUID id,
+        @Param("owner") String owner,
+        @Param("total") long total,
+        @Param("now") LocalDateTime now);
+
+    /**
+     * Move a running job to a final status or back to QUEUED, releasing the lease
+     * 
+     * @return 1, or 0 if the lease was lost
+     */
+    @Modifying
+    @Query("UPDATE CatalogJob j SET j.status = :status, j.owner = NULL, j.errorMessage = :errorMessage, " +
+           "j.finishedAt = :finishedAt WHERE j.id = :id AND j.owner = :owner AND j.status = 'RUNNING'")
+    int release(
+        @Param("id") UUID id,
+        @Param("owner") String owner,
+        @Param("status") String status,
+        @Param("errorMessage") String errorMessage,
+        @Param("finishedAt") LocalDateTime finishedAt);
+
+    /**
+     * Store the uploaded input of a job
+     */
+    @Modifying
+    @Query(value = "UPDATE catalog_jobs SET payload = :payload WHERE id = :id", nativeQuery = true)
+    int storePayload(@Param("id") UUID id, @Param("payload") byte[] payload);
+
+    /**
+     * Uploaded input of a job, or null
+     */
+    @Query(value = "SELECT payload FROM catalog_jobs WHERE id = :id", nativeQuery = true)
+    byte[] findPayload(@Param("id") UUID id);
+
+    /**
+     * Drop the uploaded input of a finished job
+     */
+    @Modifying
+    @Query(value = "UPDATE catalog_jobs SET payload = NULL WHERE id = :id", nativeQuery = true)
+    int clearPayload(@Param("id") UUID id);
+}
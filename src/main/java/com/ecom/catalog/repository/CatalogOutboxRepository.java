@@ -0,0 +1,193 @@
+package com.ecom.catalog.repository;
+
+import com.ecom.catalog.repository.projection.OutboxMessageRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Access to the catalog_outbox table
+ *
+ * <p>Plain JDBC: the relay works on batches of rows and never needs entity state.
+ * All methods join the caller's transaction.
+ *
+ * <p>A message is pending until it is published or dead-lettered. {@code not_before}
+ * keeps a pending message from being claimed while it is being sent (lease) or after a
+ * failed send (back-off).
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogOutboxRepository {
+
+    /**
+     * Advisory lock key serializing outbox claims across relays
+     */
+    private static final long CLAIM_LOCK = 0x636174616c6f67L; // "catalog"
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert messages in one JDBC batch
+     */
+    public void append(List<OutboxMessageRow> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO catalog_outbox (event_id, topic, message_key, type_id, payload, content_type, schema_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            messages,
+            messages.size(),
+            (PreparedStatement statement, OutboxMessageRow message) -> {
+                statement.setObject(1, message.eventId());
+                statement.setString(2, message.topic());
+                statement.setString(3, message.messageKey());
+                statement.setString(4, message.typeId());
+                statement.setBytes(5, message.payload());
+                statement.setString(6, message.contentType());
+                statement.setString(7, message.schemaId());
+            });
+    }
+
+    /**
+     * Claim the oldest pending messages for sending, keeping each key's events in order
+     *
+     * <p>Must run in a transaction, which is kept short: claimed rows get a lease
+     * ({@code not_before = now + lease}) that makes other relays skip them while they are
+     * sent, so no lock is held during the send. A row is only claimed when no earlier
+     * pending event of its key is leased or backing off after a failure, so a key's
+     * events are never in flight on two relays at once and never overtake a failed
+     * earlier event. Claims are serialized by a transaction-level advisory lock, so two
+     * relays cannot both claim parts of one key.
+     *
+     * @return Claimed messages in id order
+     */
+    public List<OutboxMessageRow> claim(int limit, Duration lease) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> null, CLAIM_LOCK);
+        List<OutboxMessageRow> claimed = new ArrayList<>(jdbcTemplate.query(
+            "UPDATE catalog_outbox SET not_before = now() + ? * interval '1 millisecond' " +
+            "WHERE id IN (SELECT o.id FROM catalog_outbox o " +
+            "WHERE o.published_at IS NULL AND o.dead_lettered_at IS NULL " +
+            "AND (o.not_before IS NULL OR o.not_before <= now()) " +
+            "AND NOT EXISTS (SELECT 1 FROM catalog_outbox e " +
+            "WHERE e.topic = o.topic AND e.message_key = o.message_key AND e.id < o.id " +
+            "AND e.published_at IS NULL AND e.dead_lettered_at IS NULL AND e.not_before > now()) " +
+            "ORDER BY o.id LIMIT ?) " +
+            "RETURNING id, event_id, topic, message_key, type_id, payload, content_type, schema_id, created_at",
+            (rs, rowNum) -> new OutboxMessageRow(
+                rs.getLong("id"),
+                rs.getObject("event_id", UUID.class),
+                rs.getString("topic"),
+                rs.getString("message_key"),
+                rs.getString("type_id"),
+                rs.getBytes("payload"),
+                rs.getString("content_type"),
+                rs.getString("schema_id"),
+                rs.getObject("created_at", LocalDateTime.class)),
+            lease.toMillis(),
+            limit));
+        claimed.sort(Comparator.comparing(OutboxMessageRow::id));
+        return claimed;
+    }
+
+    public void markPublished(List<Long> ids, LocalDateTime publishedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE catalog_outbox SET published_at = ?, attempts = attempts + 1, last_error = NULL, " +
+                    "not_before = NULL WHERE id = ANY(?)");
+                statement.setTimestamp(1, Timestamp.valueOf(publishedAt));
+                statement.setArray(2, connection.createArrayOf("bigint", ids.toArray()));
+                return statement;
+            });
+    }
+
+    /**
+     * Record a failed send: retry after an exponential back-off ({@code backoff * 2^attempts},
+     * at most {@code maxBackoff}), or dead-letter the message once it has been attempted
+     * {@code maxAttempts} times
+     *
+     * @return IDs of the messages dead-lettered
+     */
+    public List<Long> markFailed(List<Long> ids, String error, int maxAttempts, Duration backoff, Duration maxBackoff) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE catalog_outbox SET attempts = attempts + 1, last_error = ?, " +
+                    "not_before = now() + LEAST(? * power(2, attempts), ?) * interval '1 millisecond', " +
+                    "dead_lettered_at = CASE WHEN attempts + 1 >= ? THEN now() END " +
+                    "WHERE id = ANY(?) RETURNING id, dead_lettered_at IS NOT NULL AS dead");
+                statement.setString(1, error);
+                statement.setLong(2, backoff.toMillis());
+                statement.setLong(3, maxBackoff.toMillis());
+                statement.setInt(4, maxAttempts);
+                statement.setArray(5, connection.createArrayOf("bigint", ids.toArray()));
+                return statement;
+            },
+            (rs, rowNum) -> rs.getBoolean("dead") ? rs.getLong("id") : null)
+            .stream().filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Give up the lease of claimed messages that were not sent, so they can be claimed again
+     */
+    public void release(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE catalog_outbox SET not_before = NULL WHERE id = ANY(?)");
+                statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+                return statement;
+            });
+    }
+
+    /**
+     * Pending messages, the creation time of the oldest one, and dead letters
+     */
+    public Backlog backlog() {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FILTER (WHERE dead_lettered_at IS NULL) AS pending, " +
+            "min(created_at) FILTER (WHERE dead_lettered_at IS NULL) AS oldest, " +
+            "count(*) FILTER (WHERE dead_lettered_at IS NOT NULL) AS dead " +
+            "FROM catalog_outbox WHERE published_at IS NULL",
+            (rs, rowNum) -> new Backlog(
+                rs.getLong("pending"), rs.getObject("oldest", LocalDateTime.class), rs.getLong("dead")));
+    }
+
+    /**
+     * Delete messages published before the given time
+     *
+     * @return Number of rows deleted
+     */
+    public int deletePublishedBefore(LocalDateTime before) {
+        return jdbcTemplate.update(
+            "DELETE FROM catalog_outbox WHERE published_at IS NOT NULL AND published_at < ?",
+            Timestamp.valueOf(before));
+    }
+
+    /**
+     * @param oldest Creation time of the oldest pending message, null if none
+     * @param dead Dead-lettered messages (kept until replayed or deleted by hand)
+     */
+    public record Backlog(long pending, LocalDateTime oldest, long dead) {
+    }
+}
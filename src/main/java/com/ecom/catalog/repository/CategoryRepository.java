@@ -4,6 +4,7 @@ import com.ecom.catalog.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +31,16 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
      */
     List<Category> findByParentIdAndTenantId(UUID parentId, UUID tenantId);
     
+    /**
+     * Find categories for a set of parents in one query
+     * Used to resolve childrenIds for many categories without N+1 queries
+     * 
+     * @param parentIds Parent category IDs
+     * @param tenantId Tenant ID
+     * @return List of child categories of any of the given parents
+     */
+    List<Category> findByParentIdInAndTenantId(Collection<UUID> parentIds, UUID tenantId);
+    
     /**
      * Find category by name and tenant ID
      * 
@@ -0,0 +1,349 @@
+package com.ecom.catalog.repository;
+
+import com.ecom.catalog.entity.Product;
+import com.ecom.catalog.model.request.ProductImportConflictMode;
+import com.ecom.catalog.repository.projection.ProductPriceChangeRow;
+import com.ecom.catalog.repository.projection.ProductUpsertResult;
+import com.ecom.catalog.repository.projection.ProductUpsertRow;
+import com.ecom.catalog.repository.projection.ProductVersionRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based product writes for bulk imports and catalog jobs
+ *
+ * <p>A whole chunk is written with one {@code INSERT ... SELECT FROM unnest(...)}
+ * statement: each column is bound as a single array parameter, SKU conflicts are
+ * resolved by {@code ON CONFLICT (sku, tenant_id)} in the same statement, and
+ * {@code RETURNING} reports which rows were inserted or updated. This avoids the
+ * per-row SKU lookup and INSERT of the single-product path, and the statement text is
+ * the same for every chunk size.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepository {
+
+    private static final String INSERT_ROWS =
+        "INSERT INTO products (name, sku, description, price, currency, category_id, seller_id, tenant_id, images, status) " +
+        "SELECT r.name, r.sku, r.description, r.price, r.currency, r.category_id, ?, ?, r.images, r.status " +
+        "FROM unnest(CAST(? AS text[]), CAST(? AS text[]), CAST(? AS text[]), CAST(? AS numeric[]), " +
+        "CAST(? AS text[]), CAST(? AS uuid[]), CAST(? AS text[]), CAST(? AS text[])) " +
+        "AS r(name, sku, description, price, currency, category_id, images, status) ";
+
+    private static final String INSERT_ROW =
+        "INSERT INTO products (name, sku, description, price, currency, category_id, seller_id, tenant_id, images, status) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ";
+
+    private static final String ON_CONFLICT_SKIP = "ON CONFLICT (sku, tenant_id) DO NOTHING ";
+
+    private static final String ON_CONFLICT_UPDATE =
+        "ON CONFLICT (sku, tenant_id) DO UPDATE SET " +
+        "name = EXCLUDED.name, description = EXCLUDED.description, price = EXCLUDED.price, " +
+        "currency = EXCLUDED.currency, category_id = EXCLUDED.category_id, images = EXCLUDED.images, " +
+        "status = EXCLUDED.status, deleted = false, deleted_at = NULL ";
+
+    /**
+     * Restricts updates to the importing seller's own products
+     */
+    private static final String OWNED_ONLY = "WHERE products.seller_id = EXCLUDED.seller_id ";
+
+    /**
+     * xmax is 0 for a freshly inserted row version and non-zero for an updated one
+     */
+    private static final String RETURNING = "RETURNING id, sku, version, (xmax = 0) AS created";
+
+    private static final String PRODUCT_COLUMNS =
+        "id, name, sku, description, price, currency, category_id, seller_id, tenant_id, images, status, " +
+        "deleted, deleted_at, created_at, updated_at, version";
+
+    private static final String RETURNING_PRODUCT = "RETURNING " + PRODUCT_COLUMNS + ", (xmax = 0) AS created";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert a chunk of products in one statement, resolving SKU conflicts set-wise
+     *
+     * <p>SKUs must be unique within the chunk. Rows that hit an existing SKU and are not
+     * updated (SKIP mode, or another seller's product) are not returned.
+     *
+     * @param products Products to write (transient; id and timestamps are ignored)
+     * @param sellerId Owner of new products
+     * @param tenantId Tenant ID
+     * @param conflictMode What to do with existing SKUs
+     * @param updateAnySeller Whether UPDATE may overwrite other sellers' products (ADMIN)
+     * @return Inserted and updated rows
+     */
+    public List<ProductUpsertRow> upsert(
+            List<Product> products,
+            UUID sellerId,
+            UUID tenantId,
+            ProductImportConflictMode conflictMode,
+            boolean updateAnySeller) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        String sql = INSERT_ROWS
+            + (conflictMode == ProductImportConflictMode.UPDATE
+                ? ON_CONFLICT_UPDATE + (updateAnySeller ? "" : OWNED_ONLY)
+                : ON_CONFLICT_SKIP)
+            + RETURNING;
+
+        return jdbcTemplate.query(
+            connection -> prepare(connection, sql, products, sellerId, tenantId),
+            (rs, rowNum) -> new ProductUpsertRow(
+                rs.getObject("id", UUID.class),
+                rs.getString("sku"),
+                rs.getBoolean("created"),
+                rs.getLong("version")));
+    }
+
+    /**
+     * Insert a product, or update the product with the same SKU, in one statement
+     *
+     * <p>Replaces all writable fields of an existing product (name, description, price,
+     * currency, category, images, status) and restores it if it was soft deleted; the
+     * owner is never changed. Unlike a lookup followed by an INSERT or UPDATE, concurrent
+     * writers of the same SKU cannot race each other.
+     *
+     * @param product Product to write (transient; id and timestamps are ignored)
+     * @param updateAnySeller Whether another seller's product may be updated (ADMIN)
+     * @return The stored product, or empty if the SKU belongs to another seller's product
+     */
+    public Optional<ProductUpsertResult> upsertBySku(Product product, boolean updateAnySeller) {
+        String sql = INSERT_ROW + ON_CONFLICT_UPDATE + (updateAnySeller ? "" : OWNED_ONLY) + RETURNING_PRODUCT;
+        List<ProductUpsertResult> rows = jdbcTemplate.query(
+            sql,
+            (rs, rowNum) -> new ProductUpsertResult(mapProduct(rs), rs.getBoolean("created")),
+            product.getName(),
+            product.getSku(),
+            product.getDescription(),
+            product.getPrice(),
+            product.getCurrency(),
+            product.getCategoryId(),
+            product.getSellerId(),
+            product.getTenantId(),
+            product.getImages(),
+            product.getStatus());
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * The given category IDs that exist in the tenant, locked against deletion for the
+     * rest of the transaction
+     *
+     * <p>Checked before a chunk is written, so a row with an unknown category is rejected
+     * on its own instead of failing the whole insert on {@code fk_product_category}.
+     */
+    public Set<UUID> findExistingCategoryIds(UUID tenantId, Collection<UUID> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id FROM categories WHERE tenant_id = ? AND id = ANY(?) FOR KEY SHARE");
+                statement.setObject(1, tenantId);
+                statement.setArray(2, connection.createArrayOf("uuid", categoryIds.toArray()));
+                return statement;
+            },
+            (rs, rowNum) -> rs.getObject("id", UUID.class)));
+    }
+
+    /**
+     * Lock the products with the given SKUs (live or soft deleted) for the rest of the
+     * transaction
+     *
+     * <p>Read before an upsert that may update them, so the returned state is exactly the
+     * state the upsert replaces (for the change sets of lifecycle events).
+     */
+    public List<Product> lockBySkus(UUID tenantId, Collection<String> skus) {
+        if (skus.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "SELECT " + PRODUCT_COLUMNS + " FROM products " +
+                    "WHERE tenant_id = ? AND sku = ANY(?) FOR UPDATE");
+                statement.setObject(1, tenantId);
+                statement.setArray(2, connection.createArrayOf("text", skus.toArray()));
+                return statement;
+            },
+            (rs, rowNum) -> mapProduct(rs));
+    }
+
+    /**
+     * Next live products of a scope in ID order (keyset paging for catalog jobs)
+     *
+     * @param categoryId Only this category (null: any)
+     * @param sellerId Only this seller's products (null: any)
+     * @param afterId Exclusive lower bound (null: from the start)
+     */
+    public List<UUID> findLiveIds(UUID tenantId, UUID categoryId, UUID sellerId, UUID afterId, int limit) {
+        List<Object> args = new ArrayList<>();
+        String where = liveScope(tenantId, categoryId, sellerId, args);
+        if (afterId != null) {
+            where += " AND id > ?";
+            args.add(afterId);
+        }
+        args.add(limit);
+        return jdbcTemplate.query(
+            "SELECT id FROM products WHERE " + where + " ORDER BY id LIMIT ?",
+            (rs, rowNum) -> rs.getObject("id", UUID.class),
+            args.toArray());
+    }
+
+    /**
+     * Number of live products of a scope (see {@link #findLiveIds})
+     */
+    public long countLive(UUID tenantId, UUID categoryId, UUID sellerId) {
+        List<Object> args = new ArrayList<>();
+        String where = liveScope(tenantId, categoryId, sellerId, args);
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM products WHERE " + where, Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Multiply prices by {@code factor}, rounded to cents and never below 0.01
+     *
+     * <p>Products whose rounded price stays the same are left alone. The old prices are
+     * read from the rows locked by the same statement, so they are the prices replaced.
+     *
+     * @return Products updated, with old and new price
+     */
+    public List<ProductPriceChangeRow> adjustPrices(List<UUID> productIds, BigDecimal factor) {
+        return jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE products p SET price = old.new_price " +
+                    "FROM (SELECT id, price, GREATEST(ROUND(price * ?, 2), 0.01) AS new_price FROM products " +
+                    "WHERE id = ANY(?) AND deleted = false FOR UPDATE) old " +
+                    "WHERE p.id = old.id AND old.new_price <> old.price " +
+                    "RETURNING p.id, p.seller_id, old.price AS old_price, p.price, p.currency, p.version");
+                statement.setBigDecimal(1, factor);
+                statement.setArray(2, connection.createArrayOf("uuid", productIds.toArray()));
+                return statement;
+            },
+            (rs, rowNum) -> new ProductPriceChangeRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("seller_id", UUID.class),
+                rs.getBigDecimal("old_price"),
+                rs.getBigDecimal("price"),
+                rs.getString("currency"),
+                rs.getLong("version")));
+    }
+
+    /**
+     * Move products to another category
+     *
+     * @return Products updated, with their new version
+     */
+    public List<ProductVersionRow> moveToCategory(List<UUID> productIds, UUID fromCategoryId, UUID toCategoryId) {
+        return jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE products SET category_id = ? " +
+                    "WHERE id = ANY(?) AND category_id = ? AND deleted = false " +
+                    "RETURNING id, seller_id, version");
+                statement.setObject(1, toCategoryId);
+                statement.setArray(2, connection.createArrayOf("uuid", productIds.toArray()));
+                statement.setObject(3, fromCategoryId);
+                return statement;
+            },
+            (rs, rowNum) -> new ProductVersionRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("seller_id", UUID.class),
+                rs.getLong("version")));
+    }
+
+    private static Product mapProduct(ResultSet rs) throws SQLException {
+        return Product.builder()
+            .id(rs.getObject("id", UUID.class))
+            .name(rs.getString("name"))
+            .sku(rs.getString("sku"))
+            .description(rs.getString("description"))
+            .price(rs.getBigDecimal("price"))
+            .currency(rs.getString("currency"))
+            .categoryId(rs.getObject("category_id", UUID.class))
+            .sellerId(rs.getObject("seller_id", UUID.class))
+            .tenantId(rs.getObject("tenant_id", UUID.class))
+            .images(rs.getString("images"))
+            .status(rs.getString("status"))
+            .deleted(rs.getBoolean("deleted"))
+            .deletedAt(rs.getObject("deleted_at", LocalDateTime.class))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .version(rs.getLong("version"))
+            .build();
+    }
+
+    private static String liveScope(UUID tenantId, UUID categoryId, UUID sellerId, List<Object> args) {
+        StringBuilder where = new StringBuilder("tenant_id = ? AND deleted = false");
+        args.add(tenantId);
+        if (categoryId != null) {
+            where.append(" AND category_id = ?");
+            args.add(categoryId);
+        }
+        if (sellerId != null) {
+            where.append(" AND seller_id = ?");
+            args.add(sellerId);
+        }
+        return where.toString();
+    }
+
+    private PreparedStatement prepare(
+            Connection connection,
+            String sql,
+            List<Product> products,
+            UUID sellerId,
+            UUID tenantId) throws SQLException {
+        int size = products.size();
+        String[] names = new String[size];
+        String[] skus = new String[size];
+        String[] descriptions = new String[size];
+        BigDecimal[] prices = new BigDecimal[size];
+        String[] currencies = new String[size];
+        UUID[] categoryIds = new UUID[size];
+        String[] images = new String[size];
+        String[] statuses = new String[size];
+        for (int i = 0; i < size; i++) {
+            Product product = products.get(i);
+            names[i] = product.getName();
+            skus[i] = product.getSku();
+            descriptions[i] = product.getDescription();
+            prices[i] = product.getPrice();
+            currencies[i] = product.getCurrency();
+            categoryIds[i] = product.getCategoryId();
+            images[i] = product.getImages();
+            statuses[i] = product.getStatus();
+        }
+
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setObject(1, sellerId);
+        statement.setObject(2, tenantId);
+        statement.setArray(3, connection.createArrayOf("text", names));
+        statement.setArray(4, connection.createArrayOf("text", skus));
+        statement.setArray(5, connection.createArrayOf("text", descriptions));
+        statement.setArray(6, connection.createArrayOf("numeric", prices));
+        statement.setArray(7, connection.createArrayOf("text", currencies));
+        statement.setArray(8, connection.createArrayOf("uuid", categoryIds));
+        statement.setArray(9, connection.createArrayOf("text", images));
+        statement.setArray(10, connection.createArrayOf("text", statuses));
+        return statement;
+    }
+}
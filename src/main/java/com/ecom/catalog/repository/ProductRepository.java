@@ -15,9 +15,21 @@ import java.util.UUID;
 
 /**
  * Repository for Product entity
+ * 
+ * <p>Search queries live in the {@link ProductSearchRepository} fragment.
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, ProductSearchRepository {
+
+    /**
+     * Columns mapped by the Product entity, for native queries returning entities
+     *
+     * <p>Listed instead of {@code p.*} so unmapped columns (the search_vector tsvector)
+     * are not read and transferred only to be discarded.
+     */
+    String ENTITY_COLUMNS =
+        "p.id, p.name, p.sku, p.description, p.price, p.currency, p.category_id, p.seller_id, p.tenant_id, " +
+        "p.images, p.status, p.deleted, p.deleted_at, p.created_at, p.updated_at, p.version";
     
     /**
      * Find product by SKU and tenant ID (for SKU uniqueness check)
@@ -37,6 +49,20 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
      */
     Optional<Product> findByIdAndTenantIdAndDeletedFalse(UUID id, UUID tenantId);
     
+    /**
+     * Find active products by IDs within a tenant (batch read)
+     * 
+     * <p>Binds the IDs as a single array parameter, so every batch size shares one
+     * statement and plan (unlike an IN list with one placeholder per ID).
+     * 
+     * @param ids Product IDs
+     * @param tenantId Tenant ID
+     * @return Found active products (in no particular order)
+     */
+    @Query(value = "SELECT " + ENTITY_COLUMNS + " FROM products p WHERE p.id = ANY(:ids) AND p.tenant_id = :tenantId AND p.deleted = false",
+           nativeQuery = true)
+    List<Product> findAllByIdInTenant(@Param("ids") UUID[] ids, @Param("tenantId") UUID tenantId);
+    
     /**
      * Find product by ID (including deleted)
      * Used by admins for recovery/audit
@@ -57,43 +83,6 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
      */
     List<Product> findBySellerIdAndTenantIdAndDeletedFalse(UUID sellerId, UUID tenantId);
     
-    /**
-     * Search products with filters
-     * 
-     * @param tenantId Tenant ID
-     * @param categoryId Optional category ID
-     * @param minPrice Optional minimum price
-     * @param maxPrice Optional maximum price
-     * @param query Optional search query (name or description)
-     * @param pageable Pagination
-     * @return Page of products
-     */
-    @Query(value = "SELECT p.* FROM products p WHERE " +
-           "p.tenant_id = :tenantId AND " +
-           "p.deleted = false AND " +
-           "(:categoryId IS NULL OR p.category_id = :categoryId) AND " +
-           "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR p.price <= :maxPrice) AND " +
-           "(:query IS NULL OR LOWER(CAST(p.name AS TEXT)) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "(p.description IS NOT NULL AND LOWER(CAST(p.description AS TEXT)) LIKE LOWER(CONCAT('%', :query, '%'))))",
-           nativeQuery = true,
-           countQuery = "SELECT COUNT(*) FROM products p WHERE " +
-           "p.tenant_id = :tenantId AND " +
-           "p.deleted = false AND " +
-           "(:categoryId IS NULL OR p.category_id = :categoryId) AND " +
-           "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR p.price <= :maxPrice) AND " +
-           "(:query IS NULL OR LOWER(CAST(p.name AS TEXT)) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "(p.description IS NOT NULL AND LOWER(CAST(p.description AS TEXT)) LIKE LOWER(CONCAT('%', :query, '%'))))")
-    Page<Product> searchProducts(
-        @Param("tenantId") UUID tenantId,
-        @Param("categoryId") UUID categoryId,
-        @Param("minPrice") java.math.BigDecimal minPrice,
-        @Param("maxPrice") java.math.BigDecimal maxPrice,
-        @Param("query") String query,
-        Pageable pageable
-    );
-    
     /**
      * Find all active products by category
      * 
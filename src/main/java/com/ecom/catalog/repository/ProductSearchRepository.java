@@ -0,0 +1,103 @@
+package com.ecom.catalog.repository;
+
+import com.ecom.catalog.entity.Product;
+import com.ecom.catalog.model.request.ProductSearchCriteria;
+import com.ecom.catalog.model.request.ProductSearchMode;
+import com.ecom.catalog.repository.projection.ProductFacetRow;
+import com.ecom.catalog.repository.projection.ProductFieldsRow;
+import com.ecom.catalog.repository.projection.ProductSummaryRow;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Product search queries built from the supplied filters
+ *
+ * <p>Custom fragment of {@link ProductRepository}. Instead of one catch-all statement
+ * with {@code (:param IS NULL OR ...)} predicates, each call emits only the predicates
+ * for the filters that are actually set, so every filter combination is a distinct
+ * statement with its own index-friendly plan (Postgres cannot use
+ * {@code idx_products_tenant_category_price} in the generic plan of a catch-all query).
+ *
+ * <p>Every query is scoped to the criteria's tenant and to live (not deleted) rows. The
+ * query is matched with {@code mode}: FULL_TEXT and FUZZY require a query, LIKE without
+ * a query matches everything.
+ */
+public interface ProductSearchRepository {
+
+    /**
+     * Page-number search, ordered by relevance for FULL_TEXT and similarity for FUZZY
+     *
+     * @param criteria Search filters
+     * @param mode How the query is matched
+     * @param offset Rows to skip
+     * @param limit Maximum rows to return
+     * @return Matching products
+     */
+    List<Product> search(ProductSearchCriteria criteria, ProductSearchMode mode, long offset, int limit);
+
+    /**
+     * Same as {@link #search}, reading only the listing columns
+     *
+     * @return Matching products (summary columns, first image only)
+     */
+    List<ProductSummaryRow> searchSummaries(ProductSearchCriteria criteria, ProductSearchMode mode, long offset, int limit);
+
+    /**
+     * Same as {@link #search}, reading only the columns of {@code criteria.fields()}
+     *
+     * @return Matching products (requested columns only)
+     */
+    List<ProductFieldsRow> searchFields(ProductSearchCriteria criteria, ProductSearchMode mode, long offset, int limit);
+
+    /**
+     * Count all matches of {@link #search}
+     *
+     * @return Number of matching products
+     */
+    long countMatches(ProductSearchCriteria criteria, ProductSearchMode mode);
+
+    /**
+     * Count matches of {@link #search}, stopping at {@code cap}
+     *
+     * @param cap Maximum number of rows to count
+     * @return min(matching rows, cap)
+     */
+    long countMatches(ProductSearchCriteria criteria, ProductSearchMode mode, long cap);
+
+    /**
+     * Keyset-paginated search in {@code criteria.sort()} order after {@code criteria.after()}
+     *
+     * <p>Seeks past the last returned row instead of using OFFSET, so every page costs the
+     * same regardless of depth. An optional query is matched with {@code criteria.mode()}
+     * (results stay in sort order, not relevance order).
+     *
+     * @param criteria Search filters (cursor mode)
+     * @param limit Maximum rows to return
+     * @return Products in sort order
+     */
+    List<Product> searchAfter(ProductSearchCriteria criteria, int limit);
+
+    /**
+     * Same as {@link #searchAfter}, reading only the listing columns
+     *
+     * @return Products in sort order (summary columns, first image only)
+     */
+    List<ProductSummaryRow> searchSummariesAfter(ProductSearchCriteria criteria, int limit);
+
+    /**
+     * Same as {@link #searchAfter}, reading only the columns of {@code criteria.fields()}
+     *
+     * @return Products in sort order (requested columns only)
+     */
+    List<ProductFieldsRow> searchFieldsAfter(ProductSearchCriteria criteria, int limit);
+
+    /**
+     * Category, status and price-bucket counts of the matches of {@link #search}, in a
+     * single pass (GROUPING SETS)
+     *
+     * @param bucketWidth Price histogram bucket width
+     * @return One row per category, status and non-empty price bucket
+     */
+    List<ProductFacetRow> facets(ProductSearchCriteria criteria, ProductSearchMode mode, BigDecimal bucketWidth);
+}
@@ -0,0 +1,408 @@
+package com.ecom.catalog.repository;
+
+import com.ecom.catalog.entity.Product;
+import com.ecom.catalog.model.request.ProductField;
+import com.ecom.catalog.model.request.ProductSearchCriteria;
+import com.ecom.catalog.model.request.ProductSearchCursor;
+import com.ecom.catalog.model.request.ProductSearchMode;
+import com.ecom.catalog.repository.projection.ProductFacetRow;
+import com.ecom.catalog.repository.projection.ProductFieldsRow;
+import com.ecom.catalog.repository.projection.ProductSummaryRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Native SQL implementation of {@link ProductSearchRepository}
+ *
+ * <p>Statements are assembled from fixed SQL fragments; user input is only ever bound
+ * as a parameter. The set of distinct statements is small (one per combination of
+ * supplied filters, match mode and sort), which keeps the prepared statement cache
+ * effective.
+ */
+class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    /**
+     * Case-insensitive substring match on name or description (not indexable)
+     */
+    private static final String LIKE_MATCH =
+        "(LOWER(CAST(p.name AS TEXT)) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+        "(p.description IS NOT NULL AND LOWER(CAST(p.description AS TEXT)) LIKE LOWER(CONCAT('%', :query, '%'))))";
+
+    /**
+     * Product is in stock per the product_stock read model (partial index on in-stock rows)
+     */
+    private static final String IN_STOCK =
+        "EXISTS (SELECT 1 FROM product_stock s WHERE s.tenant_id = p.tenant_id AND s.product_id = p.id AND s.in_stock)";
+
+    /**
+     * Full-text match against the trigger-maintained search_vector column (GIN indexed)
+     */
+    private static final String FULL_TEXT_MATCH = "p.search_vector @@ websearch_to_tsquery('english', :query)";
+
+    /**
+     * Relevance order for full-text matches (id breaks ties for stable paging)
+     */
+    private static final String FULL_TEXT_ORDER =
+        " ORDER BY ts_rank(p.search_vector, websearch_to_tsquery('english', :query)) DESC, p.id";
+
+    /**
+     * Similarity or substring match on name/SKU (pg_trgm GIN indexed)
+     */
+    private static final String FUZZY_MATCH =
+        "(p.name % :query OR p.sku % :query OR " +
+        "p.name ILIKE CONCAT('%', :query, '%') OR p.sku ILIKE CONCAT('%', :query, '%'))";
+
+    /**
+     * Similarity order for fuzzy matches (id breaks ties for stable paging)
+     */
+    private static final String FUZZY_ORDER =
+        " ORDER BY GREATEST(similarity(p.name, :query), similarity(p.sku, :query)) DESC, p.id";
+
+    /**
+     * Newest first, for searches without a relevance order (served by the
+     * (tenant_id, created_at, id) index; id breaks ties for stable paging)
+     */
+    private static final String NEWEST_ORDER = " ORDER BY p.created_at DESC, p.id DESC";
+
+    /**
+     * Listing columns (see ProductSummaryRow): no description, first image only
+     *
+     * <p>images is always written by the service as a JSON array, so the cast is safe.
+     */
+    private static final String SUMMARY_COLUMNS =
+        "p.id, p.name, p.sku, p.price, p.currency, p.category_id, p.status, " +
+        "CAST(p.images AS jsonb) ->> 0 AS image, p.created_at";
+
+    /**
+     * Facet aggregation wrapped around a subquery selecting the matching rows
+     */
+    private static final String FACET_SELECT =
+        "SELECT CASE WHEN GROUPING(f.category_id) = 0 THEN 'CATEGORY' " +
+        "WHEN GROUPING(f.status) = 0 THEN 'STATUS' ELSE 'PRICE' END AS facet, " +
+        "f.category_id AS category, f.status AS status, f.bucket AS bucket, COUNT(*) AS total " +
+        "FROM (SELECT p.category_id, p.status, FLOOR(p.price / :bucketWidth) AS bucket " +
+        "FROM products p WHERE ";
+
+    private static final String FACET_GROUP = ") f GROUP BY GROUPING SETS ((f.category_id), (f.status), (f.bucket))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Product> search(ProductSearchCriteria criteria, ProductSearchMode mode, long offset, int limit) {
+        return pageQuery(ProductRepository.ENTITY_COLUMNS, Product.class, criteria, mode, offset, limit).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductSummaryRow> searchSummaries(
+            ProductSearchCriteria criteria, ProductSearchMode mode, long offset, int limit) {
+        List<Object[]> rows = pageQuery(SUMMARY_COLUMNS, null, criteria, mode, offset, limit).getResultList();
+        return rows.stream().map(ProductSearchRepositoryImpl::toSummaryRow).toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductFieldsRow> searchFields(
+            ProductSearchCriteria criteria, ProductSearchMode mode, long offset, int limit) {
+        List<Object[]> rows = pageQuery(fieldColumns(criteria.fields()), null, criteria, mode, offset, limit)
+            .getResultList();
+        return rows.stream().map(row -> toFieldsRow(row, criteria.fields())).toList();
+    }
+
+    @Override
+    public long countMatches(ProductSearchCriteria criteria, ProductSearchMode mode) {
+        Predicates where = filters(criteria, mode);
+        Query query = entityManager.createNativeQuery("SELECT COUNT(*) FROM products p WHERE " + where.sql());
+        where.bind(query);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Override
+    public long countMatches(ProductSearchCriteria criteria, ProductSearchMode mode, long cap) {
+        Predicates where = filters(criteria, mode);
+        Query query = entityManager.createNativeQuery(
+            "SELECT COUNT(*) FROM (SELECT 1 FROM products p WHERE " + where.sql() + " LIMIT :cap) capped");
+        where.bind(query);
+        return ((Number) query.setParameter("cap", cap).getSingleResult()).longValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Product> searchAfter(ProductSearchCriteria criteria, int limit) {
+        return keysetQuery(ProductRepository.ENTITY_COLUMNS, Product.class, criteria, limit).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductSummaryRow> searchSummariesAfter(ProductSearchCriteria criteria, int limit) {
+        List<Object[]> rows = keysetQuery(SUMMARY_COLUMNS, null, criteria, limit).getResultList();
+        return rows.stream().map(ProductSearchRepositoryImpl::toSummaryRow).toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductFieldsRow> searchFieldsAfter(ProductSearchCriteria criteria, int limit) {
+        List<Object[]> rows = keysetQuery(fieldColumns(criteria.fields()), null, criteria, limit).getResultList();
+        return rows.stream().map(row -> toFieldsRow(row, criteria.fields())).toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductFacetRow> facets(ProductSearchCriteria criteria, ProductSearchMode mode, BigDecimal bucketWidth) {
+        Predicates where = filters(criteria, mode);
+        Query query = entityManager.createNativeQuery(FACET_SELECT + where.sql() + FACET_GROUP);
+        where.bind(query);
+        List<Object[]> rows = query.setParameter("bucketWidth", bucketWidth).getResultList();
+        return rows.stream()
+            .map(row -> new ProductFacetRow(
+                (String) row[0],
+                (UUID) row[1],
+                (String) row[2],
+                row[3] != null ? new BigDecimal(row[3].toString()) : null,
+                ((Number) row[4]).longValue()))
+            .toList();
+    }
+
+    /**
+     * Execution plan of the page-number search (EXPLAIN output, one line per row)
+     *
+     * <p>For plan regression tests: the statement and bound values are the ones
+     * {@link #search} runs.
+     */
+    @SuppressWarnings("unchecked")
+    List<String> explainSearch(ProductSearchCriteria criteria, ProductSearchMode mode, long offset, int limit) {
+        Predicates where = filters(criteria, mode);
+        Query query = entityManager.createNativeQuery(
+            "EXPLAIN " + pageSql(ProductRepository.ENTITY_COLUMNS, criteria, mode, where));
+        where.bind(query);
+        return query
+            .setParameter("limit", limit)
+            .setParameter("offset", offset)
+            .getResultList();
+    }
+
+    /**
+     * Execution plan of the keyset search (EXPLAIN output, one line per row); see
+     * {@link #explainSearch}
+     */
+    @SuppressWarnings("unchecked")
+    List<String> explainSearchAfter(ProductSearchCriteria criteria, int limit) {
+        Predicates where = filters(criteria, criteria.mode());
+        Query query = entityManager.createNativeQuery(
+            "EXPLAIN " + keysetSql(ProductRepository.ENTITY_COLUMNS, criteria, where));
+        where.bind(query);
+        return query.setParameter("limit", limit).getResultList();
+    }
+
+    /**
+     * Page-number query selecting {@code columns}, mapped to {@code resultClass} if given
+     */
+    private Query pageQuery(
+            String columns,
+            Class<?> resultClass,
+            ProductSearchCriteria criteria,
+            ProductSearchMode mode,
+            long offset,
+            int limit) {
+        Predicates where = filters(criteria, mode);
+        Query query = createQuery(pageSql(columns, criteria, mode, where), resultClass);
+        where.bind(query);
+        return query
+            .setParameter("limit", limit)
+            .setParameter("offset", offset);
+    }
+
+    private static String pageSql(
+            String columns, ProductSearchCriteria criteria, ProductSearchMode mode, Predicates where) {
+        String order = NEWEST_ORDER;
+        if (criteria.query() != null) {
+            order = switch (mode) {
+                case FULL_TEXT -> FULL_TEXT_ORDER;
+                case FUZZY -> FUZZY_ORDER;
+                case LIKE -> NEWEST_ORDER;
+            };
+        }
+        return "SELECT " + columns + " FROM products p WHERE " + where.sql() + order + " LIMIT :limit OFFSET :offset";
+    }
+
+    /**
+     * Keyset query selecting {@code columns}, mapped to {@code resultClass} if given
+     */
+    private Query keysetQuery(String columns, Class<?> resultClass, ProductSearchCriteria criteria, int limit) {
+        Predicates where = filters(criteria, criteria.mode());
+        Query query = createQuery(keysetSql(columns, criteria, where), resultClass);
+        where.bind(query);
+        return query.setParameter("limit", limit);
+    }
+
+    /**
+     * Keyset statement; adds the seek predicate for the cursor position to {@code where}
+     */
+    private static String keysetSql(String columns, ProductSearchCriteria criteria, Predicates where) {
+        ProductSearchCursor after = criteria.after();
+
+        String order = switch (criteria.sort()) {
+            case NEWEST -> {
+                if (after != null) {
+                    where.and("(p.created_at, p.id) < (:afterCreatedAt, :afterId)",
+                        "afterCreatedAt", after.createdAt());
+                }
+                yield NEWEST_ORDER;
+            }
+            case PRICE_ASC -> {
+                if (after != null) {
+                    where.and("(p.price, p.id) > (:afterPrice, :afterId)", "afterPrice", after.price());
+                }
+                yield " ORDER BY p.price ASC, p.id ASC";
+            }
+            case PRICE_DESC -> {
+                if (after != null) {
+                    where.and("(p.price, p.id) < (:afterPrice, :afterId)", "afterPrice", after.price());
+                }
+                yield " ORDER BY p.price DESC, p.id DESC";
+            }
+        };
+        if (after != null) {
+            where.bind("afterId", after.id());
+        }
+        return "SELECT " + columns + " FROM products p WHERE " + where.sql() + order + " LIMIT :limit";
+    }
+
+    private Query createQuery(String sql, Class<?> resultClass) {
+        return resultClass != null
+            ? entityManager.createNativeQuery(sql, resultClass)
+            : entityManager.createNativeQuery(sql);
+    }
+
+    /**
+     * Keyset columns followed by the requested columns, in field declaration order
+     */
+    private static String fieldColumns(Set<ProductField> fields) {
+        StringBuilder columns = new StringBuilder("p.id, p.created_at, p.price");
+        for (ProductField field : fields) {
+            columns.append(", ").append(column(field));
+        }
+        return columns.toString();
+    }
+
+    private static String column(ProductField field) {
+        return switch (field) {
+            case PRODUCT_ID -> "p.id";
+            case NAME -> "p.name";
+            case SKU -> "p.sku";
+            case DESCRIPTION -> "p.description";
+            case PRICE -> "p.price";
+            case CURRENCY -> "p.currency";
+            case CATEGORY_ID -> "p.category_id";
+            case SELLER_ID -> "p.seller_id";
+            case IMAGES -> "p.images";
+            case STATUS -> "p.status";
+            case CREATED_AT -> "p.created_at";
+            case UPDATED_AT -> "p.updated_at";
+        };
+    }
+
+    private static ProductFieldsRow toFieldsRow(Object[] row, Set<ProductField> fields) {
+        Map<ProductField, Object> values = new EnumMap<>(ProductField.class);
+        int index = 3;
+        for (ProductField field : fields) {
+            Object value = row[index++];
+            values.put(field, value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value);
+        }
+        return new ProductFieldsRow((UUID) row[0], toLocalDateTime(row[1]), (BigDecimal) row[2], values);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private static ProductSummaryRow toSummaryRow(Object[] row) {
+        return new ProductSummaryRow(
+            (UUID) row[0],
+            (String) row[1],
+            (String) row[2],
+            (BigDecimal) row[3],
+            (String) row[4],
+            (UUID) row[5],
+            (String) row[6],
+            (String) row[7],
+            toLocalDateTime(row[8])
+        );
+    }
+
+    /**
+     * Tenant and live-row scope plus only the filters that are set
+     */
+    private Predicates filters(ProductSearchCriteria criteria, ProductSearchMode mode) {
+        Predicates where = new Predicates();
+        where.and("p.tenant_id = :tenantId", "tenantId", criteria.tenantId());
+        where.and("p.deleted = false");
+        if (criteria.categoryId() != null) {
+            where.and("p.category_id = :categoryId", "categoryId", criteria.categoryId());
+        }
+        if (criteria.minPrice() != null) {
+            where.and("p.price >= :minPrice", "minPrice", criteria.minPrice());
+        }
+        if (criteria.maxPrice() != null) {
+            where.and("p.price <= :maxPrice", "maxPrice", criteria.maxPrice());
+        }
+        if (criteria.inStock() != null) {
+            // Products without stock events count as out of stock
+            where.and((criteria.inStock() ? "" : "NOT ") + IN_STOCK);
+        }
+        if (criteria.query() != null) {
+            String match = switch (mode) {
+                case FULL_TEXT -> FULL_TEXT_MATCH;
+                case FUZZY -> FUZZY_MATCH;
+                case LIKE -> LIKE_MATCH;
+            };
+            where.and(match, "query", criteria.query());
+        }
+        return where;
+    }
+
+    /**
+     * AND-ed WHERE predicates with their named parameters
+     */
+    private static final class Predicates {
+        private final StringBuilder sql = new StringBuilder();
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+        void and(String predicate) {
+            if (!sql.isEmpty()) {
+                sql.append(" AND ");
+            }
+            sql.append(predicate);
+        }
+
+        void and(String predicate, String name, Object value) {
+            and(predicate);
+            bind(name, value);
+        }
+
+        void bind(String name, Object value) {
+            parameters.put(name, value);
+        }
+
+        String sql() {
+            return sql.toString();
+        }
+
+        void bind(Query query) {
+            parameters.forEach(query::setParameter);
+        }
+    }
+}
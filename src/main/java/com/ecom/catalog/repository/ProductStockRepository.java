@@ -0,0 +1,81 @@
+package com.ecom.catalog.repository;
+
+import com.ecom.catalog.repository.projection.ProductStockRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes to the product_stock read model
+ *
+ * <p>A batch of stock states is applied with one {@code INSERT ... SELECT FROM unnest(...)}
+ * statement. A row is only overwritten by a state with an equal or later event time, so
+ * redelivered or reordered events cannot bring back an older state.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+
+    /**
+     * The {@code previous} CTE sees the table as it was before the statement, so the final
+     * SELECT reports the tenants whose in-stock set actually changed (a product without a
+     * row counts as out of stock).
+     */
+    private static final String UPSERT =
+        "WITH incoming AS (" +
+        "SELECT * FROM unnest(CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS boolean[]), CAST(? AS timestamp[])) " +
+        "AS i(product_id, tenant_id, in_stock, event_time)), " +
+        "previous AS (SELECT s.product_id, s.in_stock FROM product_stock s JOIN incoming i ON i.product_id = s.product_id), " +
+        "written AS (" +
+        "INSERT INTO product_stock (product_id, tenant_id, in_stock, event_time) " +
+        "SELECT product_id, tenant_id, in_stock, event_time FROM incoming " +
+        "ON CONFLICT (product_id) DO UPDATE SET tenant_id = EXCLUDED.tenant_id, in_stock = EXCLUDED.in_stock, " +
+        "event_time = EXCLUDED.event_time " +
+        "WHERE product_stock.event_time <= EXCLUDED.event_time " +
+        "RETURNING product_id, tenant_id, in_stock) " +
+        "SELECT DISTINCT w.tenant_id FROM written w LEFT JOIN previous p ON p.product_id = w.product_id " +
+        "WHERE COALESCE(p.in_stock, false) <> w.in_stock";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Apply stock states; product IDs must be unique within the call
+     *
+     * @return Tenants with products that went in or out of stock
+     */
+    public Set<UUID> upsert(List<ProductStockRow> rows) {
+        if (rows.isEmpty()) {
+            return Set.of();
+        }
+        int size = rows.size();
+        UUID[] productIds = new UUID[size];
+        UUID[] tenantIds = new UUID[size];
+        Boolean[] inStock = new Boolean[size];
+        Timestamp[] eventTimes = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            ProductStockRow row = rows.get(i);
+            productIds[i] = row.productId();
+            tenantIds[i] = row.tenantId();
+            inStock[i] = row.inStock();
+            eventTimes[i] = Timestamp.valueOf(row.eventTime());
+        }
+
+        return new HashSet<>(jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(UPSERT);
+                statement.setArray(1, connection.createArrayOf("uuid", productIds));
+                statement.setArray(2, connection.createArrayOf("uuid", tenantIds));
+                statement.setArray(3, connection.createArrayOf("boolean", inStock));
+                statement.setArray(4, connection.createArrayOf("timestamp", eventTimes));
+                return statement;
+            },
+            (rs, rowNum) -> rs.getObject("tenant_id", UUID.class)));
+    }
+}
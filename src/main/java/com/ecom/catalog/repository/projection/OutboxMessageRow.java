@@ -0,0 +1,43 @@
+package com.ecom.catalog.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row of the catalog_outbox table ({@code id} and {@code createdAt} are null before insert)
+ */
+public record OutboxMessageRow(
+    Long id,
+
+    /**
+     * Stable identity of the event across redeliveries
+     */
+    UUID eventId,
+
+    String topic,
+
+    String messageKey,
+
+    /**
+     * Event class name (Kafka __TypeId__ header)
+     */
+    String typeId,
+
+    /**
+     * Encoded event
+     */
+    byte[] payload,
+
+    /**
+     * Encoding of the payload (Kafka content-type header)
+     */
+    String contentType,
+
+    /**
+     * Writer schema of an Avro payload (Kafka schema-id header), null for JSON
+     */
+    String schemaId,
+
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,30 @@
+package com.ecom.catalog.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Row of the grouped facet query in ProductSearchRepository
+ *
+ * <p>Each row belongs to one facet, named by {@code facet}: CATEGORY rows carry
+ * {@code category}, STATUS rows {@code status}, PRICE rows the histogram bucket index
+ * {@code bucket} (price / bucket width, rounded down).
+ */
+public record ProductFacetRow(
+    /**
+     * CATEGORY, STATUS or PRICE
+     */
+    String facet,
+
+    UUID category,
+
+    String status,
+
+    BigDecimal bucket,
+
+    /**
+     * Number of matching products in this group
+     */
+    long total
+) {
+}
@@ -0,0 +1,25 @@
+package com.ecom.catalog.repository.projection;
+
+import com.ecom.catalog.model.request.ProductField;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Product row read with a sparse fieldset by ProductSearchRepository
+ *
+ * <p>{@code values} holds only the requested columns ({@code images} as the raw JSON
+ * string). id, createdAt and price are always read because keyset cursors need them.
+ */
+public record ProductFieldsRow(
+    UUID id,
+
+    LocalDateTime createdAt,
+
+    BigDecimal price,
+
+    Map<ProductField, Object> values
+) {
+}
@@ -0,0 +1,25 @@
+package com.ecom.catalog.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Product repriced by ProductBulkRepository
+ */
+public record ProductPriceChangeRow(
+    UUID id,
+
+    UUID sellerId,
+
+    BigDecimal oldPrice,
+
+    BigDecimal newPrice,
+
+    String currency,
+
+    /**
+     * Product version after the change
+     */
+    long version
+) {
+}
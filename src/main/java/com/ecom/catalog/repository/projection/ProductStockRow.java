@@ -0,0 +1,21 @@
+package com.ecom.catalog.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Stock state of a product in the product_stock read model
+ */
+public record ProductStockRow(
+    UUID productId,
+
+    UUID tenantId,
+
+    boolean inStock,
+
+    /**
+     * Source time of the stock event
+     */
+    LocalDateTime eventTime
+) {
+}
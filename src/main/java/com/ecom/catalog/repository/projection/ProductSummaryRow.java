@@ -0,0 +1,36 @@
+package com.ecom.catalog.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Listing columns of a product, read by the summary search queries in
+ * ProductSearchRepository
+ *
+ * <p>Skips description and reads only the first entry of the images JSON array.
+ * {@code createdAt} is only needed to build keyset cursors.
+ */
+public record ProductSummaryRow(
+    UUID id,
+
+    String name,
+
+    String sku,
+
+    BigDecimal price,
+
+    String currency,
+
+    UUID categoryId,
+
+    String status,
+
+    /**
+     * First image URL (null if none)
+     */
+    String image,
+
+    LocalDateTime createdAt
+) {
+}
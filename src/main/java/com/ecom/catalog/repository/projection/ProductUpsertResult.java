@@ -0,0 +1,17 @@
+package com.ecom.catalog.repository.projection;
+
+import com.ecom.catalog.entity.Product;
+
+/**
+ * Product written by an upsert-by-SKU: {@code created} is false when an existing
+ * product with the same SKU was updated
+ */
+public record ProductUpsertResult(
+    /**
+     * The product as stored (detached)
+     */
+    Product product,
+
+    boolean created
+) {
+}
@@ -0,0 +1,21 @@
+package com.ecom.catalog.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Row written by ProductBulkRepository: {@code created} is false when an existing
+ * product with the same SKU was updated
+ */
+public record ProductUpsertRow(
+    UUID id,
+
+    String sku,
+
+    boolean created,
+
+    /**
+     * Product version after the write
+     */
+    long version
+) {
+}
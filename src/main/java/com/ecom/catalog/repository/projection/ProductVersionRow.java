@@ -0,0 +1,15 @@
+package com.ecom.catalog.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Product updated by ProductBulkRepository, with its version after the update
+ */
+public record ProductVersionRow(
+    UUID id,
+
+    UUID sellerId,
+
+    long version
+) {
+}
@@ -0,0 +1,80 @@
+package com.ecom.catalog.service;
+
+import com.ecom.catalog.model.request.PriceAdjustmentJobRequest;
+import com.ecom.catalog.model.request.ProductImportConflictMode;
+import com.ecom.catalog.model.request.ProductImportFormat;
+import com.ecom.catalog.model.request.RecategorizeJobRequest;
+import com.ecom.catalog.model.response.CatalogJobResponse;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for asynchronous catalog jobs
+ * 
+ * <p>Submitting a job only records it (status QUEUED); it is processed in the background
+ * in chunks, and its progress is read with {@link #getJob}. SELLERs act on their own
+ * products only, ADMINs on all products of the tenant.
+ */
+public interface CatalogJobService {
+
+    /**
+     * Submit a bulk product import; the input is stored with the job
+     * 
+     * @param tenantId Tenant ID from JWT claims
+     * @param currentUserId Current user ID from JWT claims (owner of new products)
+     * @param roles User roles from JWT claims
+     * @param format Input format
+     * @param conflictMode What to do with SKUs that already exist
+     * @param input Request body (read to the end, not closed)
+     * @return The queued job
+     * @throws com.ecom.error.exception.BusinessException if unauthorized, the input is too large or the tenant has too many pending jobs
+     */
+    CatalogJobResponse submitImport(
+        UUID tenantId,
+        UUID currentUserId,
+        List<String> roles,
+        ProductImportFormat format,
+        ProductImportConflictMode conflictMode,
+        InputStream input
+    );
+
+    /**
+     * Submit a mass price change
+     * 
+     * @return The queued job
+     * @throws com.ecom.error.exception.BusinessException if unauthorized, the category does not exist or the tenant has too many pending jobs
+     */
+    CatalogJobResponse submitPriceAdjustment(
+        UUID tenantId,
+        UUID currentUserId,
+        List<String> roles,
+        PriceAdjustmentJobRequest request
+    );
+
+    /**
+     * Submit a move of all products from one category to another
+     * 
+     * @return The queued job
+     * @throws com.ecom.error.exception.BusinessException if unauthorized, a category does not exist or the tenant has too many pending jobs
+     */
+    CatalogJobResponse submitRecategorize(
+        UUID tenantId,
+        UUID currentUserId,
+        List<String> roles,
+        RecategorizeJobRequest request
+    );
+
+    /**
+     * Get a job's status and progress
+     * 
+     * @param jobId Job ID
+     * @param tenantId Tenant ID from JWT claims
+     * @param currentUserId Current user ID (the submitter, unless ADMIN)
+     * @param roles User roles from JWT claims
+     * @return Status, counters, throughput and ETA
+     * @throws com.ecom.error.exception.BusinessException if the job does not exist or belongs to another user
+     */
+    CatalogJobResponse getJob(UUID jobId, UUID tenantId, UUID currentUserId, List<String> roles);
+}
@@ -1,5 +1,6 @@
 package com.ecom.catalog.service;
 
+import com.ecom.catalog.cache.CatalogVersion;
 import com.ecom.catalog.model.request.CategoryRequest;
 import com.ecom.catalog.model.response.CategoryResponse;
 import com.ecom.catalog.model.response.CategoryTreeResponse;
@@ -99,6 +100,15 @@ public interface CategoryService {
         List<String> roles
     );
     
+    /**
+     * Get the tenant's catalog version
+     * Changes whenever any category of the tenant is created, updated or deleted
+     * 
+     * @param tenantId Tenant ID from JWT claims
+     * @return Current catalog version (usable as a cache validator while it is shared)
+     */
+    CatalogVersion getCatalogVersion(UUID tenantId);
+    
     /**
      * Check if user has permission to manage categories
      * Only SELLER and ADMIN can manage categories
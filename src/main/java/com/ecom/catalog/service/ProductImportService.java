@@ -0,0 +1,42 @@
+package com.ecom.catalog.service;
+
+import com.ecom.catalog.model.request.ProductImportConflictMode;
+import com.ecom.catalog.model.request.ProductImportFormat;
+import com.ecom.catalog.model.response.ProductImportResponse;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for bulk product imports (seller onboarding)
+ */
+public interface ProductImportService {
+
+    /**
+     * Import products from a stream of NDJSON or CSV rows
+     * 
+     * <p>Rows are parsed and validated one at a time and written in chunks. Invalid rows
+     * are rejected individually and reported; they do not abort the import. Chunks that
+     * were written stay written if a later chunk fails.
+     * 
+     * @param sellerId Seller ID (owner of new products)
+     * @param tenantId Tenant ID from JWT claims
+     * @param currentUserId Current user ID from JWT claims
+     * @param roles User roles from JWT claims
+     * @param format Input format
+     * @param conflictMode What to do with SKUs that already exist
+     * @param input Request body (read to the end, not closed)
+     * @return Row counts and the first row errors
+     * @throws com.ecom.error.exception.BusinessException if user is not SELLER/ADMIN or the CSV header is invalid
+     */
+    ProductImportResponse importProducts(
+        UUID sellerId,
+        UUID tenantId,
+        UUID currentUserId,
+        List<String> roles,
+        ProductImportFormat format,
+        ProductImportConflictMode conflictMode,
+        InputStream input
+    );
+}
@@ -1,8 +1,11 @@
 package com.ecom.catalog.service;
 
 import com.ecom.catalog.model.request.ProductRequest;
+import com.ecom.catalog.model.request.ProductSearchCriteria;
+import com.ecom.catalog.model.response.ProductBatchResponse;
 import com.ecom.catalog.model.response.ProductResponse;
 import com.ecom.catalog.model.response.ProductSearchResponse;
+import com.ecom.catalog.model.response.ProductUpsertResponse;
 
 import java.util.List;
 import java.util.UUID;
@@ -41,27 +44,24 @@ public interface ProductService {
      */
     ProductResponse getProductById(UUID productId, UUID tenantId);
     
+    /**
+     * Get many products by ID in one call
+     * 
+     * @param productIds Product IDs (duplicates are ignored)
+     * @param tenantId Tenant ID
+     * @return Found products keyed by ID, plus the IDs that were not found
+     * @throws com.ecom.error.exception.BusinessException if more IDs than the configured maximum are requested
+     */
+    ProductBatchResponse<ProductResponse> getProductsByIds(List<UUID> productIds, UUID tenantId);
+    
     /**
      * Search products with filters
      * 
-     * @param tenantId Tenant ID from JWT claims (optional for public access)
-     * @param query Optional search query (name or description)
-     * @param categoryId Optional category ID
-     * @param minPrice Optional minimum price
-     * @param maxPrice Optional maximum price
-     * @param page Page number (0-based)
-     * @param size Page size
-     * @return ProductSearchResponse with paginated results
+     * @param criteria Normalized search criteria (tenant, query and match mode, filters, paging)
+     * @return ProductSearchResponse with paginated results (ProductResponse or
+     *         ProductSummaryResponse items, depending on the criteria's view)
      */
-    ProductSearchResponse searchProducts(
-        UUID tenantId,
-        String query,
-        UUID categoryId,
-        java.math.BigDecimal minPrice,
-        java.math.BigDecimal maxPrice,
-        int page,
-        int size
-    );
+    ProductSearchResponse<?> searchProducts(ProductSearchCriteria criteria);
     
     /**
      * Update product
@@ -82,6 +82,32 @@ public interface ProductService {
         ProductRequest request
     );
     
+    /**
+     * Create or replace the product with the given SKU (idempotent)
+     * 
+     * <p>Written with a single INSERT ... ON CONFLICT statement, so there is no separate
+     * SKU lookup and concurrent writers of the same SKU cannot race. An existing product
+     * is replaced as a whole (fields missing from the request are cleared) and restored
+     * if it was soft deleted; its owner does not change.
+     * 
+     * @param sellerId Seller ID (owner if the product is created)
+     * @param tenantId Tenant ID from JWT claims
+     * @param currentUserId Currently authenticated user ID
+     * @param roles Current user's roles
+     * @param sku SKU from the path; must match the request's SKU
+     * @param request Product request DTO
+     * @return The stored product and whether it was created
+     * @throws com.ecom.error.exception.BusinessException if unauthorized, the SKU belongs to another seller, the SKUs differ or the category does not exist
+     */
+    ProductUpsertResponse upsertProductBySku(
+        UUID sellerId,
+        UUID tenantId,
+        UUID currentUserId,
+        List<String> roles,
+        String sku,
+        ProductRequest request
+    );
+    
     /**
      * Soft delete a product
      * 
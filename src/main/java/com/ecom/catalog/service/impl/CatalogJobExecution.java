@@ -0,0 +1,178 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.entity.CatalogJob;
+import com.ecom.catalog.model.response.ProductImportResponse;
+import com.ecom.catalog.repository.CatalogJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * One run of a claimed catalog job on this instance
+ *
+ * <p>Holds the job's counters and checkpoint. {@link #commitChunk} writes a chunk and
+ * the new progress in the same transaction, so after a crash the job resumes exactly
+ * after the last committed chunk: no chunk is applied twice (which matters for
+ * non-idempotent work such as price adjustments) and none is lost.
+ */
+class CatalogJobExecution {
+
+    private static final TypeReference<List<ProductImportResponse.RowError>> ERRORS_TYPE = new TypeReference<>() {
+    };
+
+    private final CatalogJob job;
+    private final String owner;
+    private final int chunkSize;
+    private final CatalogJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BooleanSupplier stopRequested;
+    private final RowTally tally;
+    private String checkpoint;
+
+    CatalogJobExecution(
+            CatalogJob job,
+            String owner,
+            int chunkSize,
+            int maxErrors,
+            CatalogJobRepository jobRepository,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            BooleanSupplier stopRequested) {
+        this.job = job;
+        this.owner = owner;
+        this.chunkSize = chunkSize;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.stopRequested = stopRequested;
+        this.checkpoint = job.getCheckpoint();
+
+        this.tally = new RowTally(maxErrors, readErrors(objectMapper, job.getErrors()));
+        tally.received = job.getProcessedRows();
+        tally.created = job.getCreatedRows();
+        tally.updated = job.getUpdatedRows();
+        tally.skipped = job.getSkippedRows();
+        tally.rejected = job.getRejectedRows();
+    }
+
+    /**
+     * The job as claimed (progress fields are not kept up to date)
+     */
+    CatalogJob job() {
+        return job;
+    }
+
+    /**
+     * Type-specific parameters stored with the job
+     */
+    <T> T parameters(Class<T> type) {
+        try {
+            return objectMapper.readValue(job.getParameters(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid parameters of job " + job.getId(), e);
+        }
+    }
+
+    /**
+     * Position after the last committed chunk, null for a fresh job
+     */
+    String checkpoint() {
+        return checkpoint;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Live counters; update them in the work passed to {@link #commitChunk}
+     */
+    RowTally tally() {
+        return tally;
+    }
+
+    /**
+     * Whether this instance is shutting down; handlers check it between chunks
+     */
+    boolean stopRequested() {
+        return stopRequested.getAsBoolean();
+    }
+
+    /**
+     * Record the number of rows the job will process (for the ETA)
+     */
+    void total(long totalRows) {
+        Integer updated = transactionTemplate.execute(status ->
+            jobRepository.updateTotal(job.getId(), owner, totalRows, LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            throw new LeaseLostException(job);
+        }
+    }
+
+    /**
+     * Run {@code work} and save the counters and {@code newCheckpoint} in one transaction
+     *
+     * @throws LeaseLostException if another instance has taken the job over; the work is rolled back
+     */
+    void commitChunk(Runnable work, String newCheckpoint) {
+        transactionTemplate.executeWithoutResult(status -> {
+            work.run();
+            int updated = jobRepository.checkpoint(
+                job.getId(),
+                owner,
+                newCheckpoint,
+                tally.received,
+                tally.created,
+                tally.updated,
+                tally.skipped,
+                tally.rejected,
+                writeErrors(tally.errors),
+                LocalDateTime.now());
+            if (updated == 0) {
+                throw new LeaseLostException(job);
+            }
+        });
+        checkpoint = newCheckpoint;
+    }
+
+    /**
+     * Stored row errors of a job (empty if none or unreadable)
+     */
+    static List<ProductImportResponse.RowError> readErrors(ObjectMapper objectMapper, String json) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, ERRORS_TYPE);
+        } catch (JsonProcessingException e) {
+            return List.of();
+        }
+    }
+
+    private String writeErrors(List<ProductImportResponse.RowError> errors) {
+        if (errors.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize job errors", e);
+        }
+    }
+
+    /**
+     * The job's lease expired and another instance owns it now
+     */
+    static class LeaseLostException extends RuntimeException {
+
+        LeaseLostException(CatalogJob job) {
+            super("Lost the lease on job " + job.getId());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.model.request.CatalogJobType;
+
+/**
+ * Processes catalog jobs of one type
+ *
+ * <p>Handlers work in chunks and commit each chunk through
+ * {@link CatalogJobExecution#commitChunk}, starting from {@link CatalogJobExecution#checkpoint()}
+ * so that a resumed job continues where the previous run stopped.
+ */
+interface CatalogJobHandler {
+
+    CatalogJobType type();
+
+    /**
+     * Run (or resume) a job
+     *
+     * @return true when the job is complete, false if it stopped early because
+     *         {@link CatalogJobExecution#stopRequested()} (the job is queued again)
+     */
+    boolean run(CatalogJobExecution execution);
+}
@@ -0,0 +1,198 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.entity.CatalogJob;
+import com.ecom.catalog.model.request.CatalogJobType;
+import com.ecom.catalog.model.response.CatalogJobStatus;
+import com.ecom.catalog.repository.CatalogJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs catalog jobs on a bounded pool of workers
+ *
+ * <p>Backpressure: jobs wait in the {@code catalog_jobs} table, not in memory. Each poll
+ * claims at most as many jobs as there are idle workers, so a burst of submissions
+ * only makes the queue longer and never overloads an instance; several instances
+ * share the queue through {@code FOR UPDATE SKIP LOCKED}.
+ *
+ * <p>Resumability: a claimed job is leased to this instance and the lease is renewed
+ * with every chunk checkpoint. On shutdown, running jobs stop after their current chunk
+ * and go back to QUEUED; a job whose instance died is taken over once its lease is older
+ * than {@code catalog.jobs.lease-timeout}. Either way the next run resumes from the
+ * last checkpoint.
+ */
+@Component
+@Slf4j
+public class CatalogJobRunner {
+
+    private final CatalogJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<CatalogJobType, CatalogJobHandler> handlers = new EnumMap<>(CatalogJobType.class);
+    private final ThreadPoolExecutor executor;
+    private final Semaphore idleWorkers;
+    private final String instanceId;
+    private final Duration leaseTimeout;
+    private final Duration shutdownTimeout;
+    private final int chunkSize;
+    private final int maxErrors;
+    private volatile boolean stopping = false;
+
+    public CatalogJobRunner(
+            CatalogJobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            List<CatalogJobHandler> handlers,
+            @Value("${catalog.jobs.workers:2}") int workers,
+            @Value("${catalog.jobs.lease-timeout:PT2M}") Duration leaseTimeout,
+            @Value("${catalog.jobs.shutdown-timeout:PT20S}") Duration shutdownTimeout,
+            @Value("${catalog.jobs.chunk-size:1000}") int chunkSize,
+            @Value("${catalog.product.import.max-errors:100}") int maxErrors,
+            @Value("${HOSTNAME:catalog}") String hostname) {
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.idleWorkers = new Semaphore(workers);
+        this.leaseTimeout = leaseTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        // Unique per process, so a restarted pod does not mistake its predecessor's leases for its own
+        this.instanceId = hostname + ":" + UUID.randomUUID();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers),
+            runnable -> {
+                Thread thread = new Thread(runnable, "catalog-job-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        log.info("Catalog job runner initialised: instance={}, workers={}, leaseTimeout={}, chunkSize={}",
+            instanceId, workers, leaseTimeout, chunkSize);
+    }
+
+    /**
+     * Claim as many runnable jobs as there are idle workers and start them
+     */
+    @Scheduled(fixedDelayString = "${catalog.jobs.poll-interval:PT1S}")
+    public void poll() {
+        int idle = idleWorkers.availablePermits();
+        if (stopping || idle == 0) {
+            return;
+        }
+        List<CatalogJob> claimed = transactionTemplate.execute(status -> claim(idle));
+        if (claimed == null) {
+            return;
+        }
+        for (CatalogJob job : claimed) {
+            // Only this thread acquires permits, so the idle count read above still holds
+            idleWorkers.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    idleWorkers.release();
+                }
+            });
+        }
+    }
+
+    private List<CatalogJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CatalogJob> jobs = jobRepository.lockClaimable(now.minus(leaseTimeout), limit);
+        for (CatalogJob job : jobs) {
+            if (CatalogJobStatus.RUNNING.name().equals(job.getStatus())) {
+                log.warn("Taking over job {} from {} (lease expired at {})", job.getId(), job.getOwner(), job.getHeartbeatAt());
+            }
+            job.setStatus(CatalogJobStatus.RUNNING.name());
+            job.setOwner(instanceId);
+            job.setHeartbeatAt(now);
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(now);
+            }
+        }
+        return jobRepository.saveAll(jobs);
+    }
+
+    private void run(CatalogJob job) {
+        CatalogJobExecution execution = new CatalogJobExecution(
+            job, instanceId, chunkSize, maxErrors, jobRepository, transactionTemplate, objectMapper, () -> stopping);
+        log.info("Running job {} ({}) for tenant: {} from checkpoint: {}",
+            job.getId(), job.getType(), job.getTenantId(), job.getCheckpoint());
+        try {
+            CatalogJobHandler handler = handlers.get(CatalogJobType.valueOf(job.getType()));
+            if (handler == null) {
+                throw new IllegalStateException("No handler for job type " + job.getType());
+            }
+            if (handler.run(execution)) {
+                release(job, CatalogJobStatus.SUCCEEDED, null);
+                log.info("Job {} succeeded: processed={}", job.getId(), execution.tally().received);
+            } else {
+                release(job, CatalogJobStatus.QUEUED, null);
+                log.info("Job {} released at checkpoint: {}", job.getId(), execution.checkpoint());
+            }
+        } catch (CatalogJobExecution.LeaseLostException e) {
+            log.warn("Stopped job {}: lease lost to another instance", job.getId());
+        } catch (Exception e) {
+            log.error("Job {} failed at checkpoint: {}", job.getId(), execution.checkpoint(), e);
+            release(job, CatalogJobStatus.FAILED, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * End this run: record the final status (dropping the upload) or queue the job again
+     */
+    private void release(CatalogJob job, CatalogJobStatus status, String errorMessage) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                LocalDateTime finishedAt = status.isFinished() ? LocalDateTime.now() : null;
+                int updated = jobRepository.release(job.getId(), instanceId, status.name(), errorMessage, finishedAt);
+                if (updated > 0 && status.isFinished()) {
+                    jobRepository.clearPayload(job.getId());
+                }
+            });
+        } catch (Exception e) {
+            // The lease expires and another instance resumes the job
+            log.error("Failed to release job {} as {}", job.getId(), status, e);
+        }
+    }
+
+    /**
+     * Let running jobs finish their current chunk and queue them again
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Catalog jobs still running after {}; they resume elsewhere once their lease expires", shutdownTimeout);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.entity.CatalogJob;
+import com.ecom.catalog.model.request.CatalogJobType;
+import com.ecom.catalog.model.request.PriceAdjustmentJobRequest;
+import com.ecom.catalog.model.request.ProductImportConflictMode;
+import com.ecom.catalog.model.request.ProductImportFormat;
+import com.ecom.catalog.model.request.RecategorizeJobRequest;
+import com.ecom.catalog.model.response.CatalogJobResponse;
+import com.ecom.catalog.model.response.CatalogJobStatus;
+import com.ecom.catalog.repository.CatalogJobRepository;
+import com.ecom.catalog.repository.CategoryRepository;
+import com.ecom.catalog.service.CatalogJobService;
+import com.ecom.error.exception.BusinessException;
+import com.ecom.error.model.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of CatalogJobService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogJobServiceImpl implements CatalogJobService {
+
+    private static final List<String> UNFINISHED_STATUSES =
+        List.of(CatalogJobStatus.QUEUED.name(), CatalogJobStatus.RUNNING.name());
+
+    private final CatalogJobRepository jobRepository;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Queued and running jobs allowed per tenant; further submissions are refused
+     */
+    @Value("${catalog.jobs.max-pending-per-tenant:10}")
+    private int maxPendingPerTenant;
+
+    /**
+     * Largest import upload accepted by an import job
+     */
+    @Value("${catalog.jobs.import.max-size:64MB}")
+    private DataSize maxImportSize;
+
+    @Override
+    @Transactional
+    public CatalogJobResponse submitImport(
+            UUID tenantId,
+            UUID currentUserId,
+            List<String> roles,
+            ProductImportFormat format,
+            ProductImportConflictMode conflictMode,
+            InputStream input) {
+
+        requireSellerOrAdmin(currentUserId, roles, "import products");
+        requireCapacity(tenantId);
+
+        byte[] payload;
+        try {
+            payload = input.readNBytes(Math.toIntExact(maxImportSize.toBytes()) + 1);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "Failed to read import input: " + e.getMessage());
+        }
+        if (payload.length > maxImportSize.toBytes()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "Import input exceeds " + maxImportSize);
+        }
+
+        CatalogJob job = submit(tenantId, currentUserId, CatalogJobType.PRODUCT_IMPORT,
+            new ProductImportJobHandler.Parameters(format, conflictMode, currentUserId, hasAdminRole(roles)));
+        jobRepository.storePayload(job.getId(), payload);
+
+        log.info("Queued import job {} ({}, {} bytes) for seller: {}, tenant: {}",
+            job.getId(), format, payload.length, currentUserId, tenantId);
+        return toResponse(job);
+    }
+
+    @Override
+    @Transactional
+    public CatalogJobResponse submitPriceAdjustment(
+            UUID tenantId,
+            UUID currentUserId,
+            List<String> roles,
+            PriceAdjustmentJobRequest request) {
+
+        requireSellerOrAdmin(currentUserId, roles, "adjust prices");
+        if (request.categoryId() != null) {
+            requireCategory(request.categoryId(), tenantId);
+        }
+        requireCapacity(tenantId);
+
+        CatalogJob job = submit(tenantId, currentUserId, CatalogJobType.PRICE_ADJUSTMENT,
+            new PriceAdjustmentJobHandler.Parameters(
+                request.categoryId(), hasAdminRole(roles) ? null : currentUserId, request.percent()));
+
+        log.info("Queued price adjustment job {} ({}%, category: {}) for user: {}, tenant: {}",
+            job.getId(), request.percent(), request.categoryId(), currentUserId, tenantId);
+        return toResponse(job);
+    }
+
+    @Override
+    @Transactional
+    public CatalogJobResponse submitRecategorize(
+            UUID tenantId,
+            UUID currentUserId,
+            List<String> roles,
+            RecategorizeJobRequest request) {
+
+        requireSellerOrAdmin(currentUserId, roles, "recategorize products");
+        if (request.fromCategoryId().equals(request.toCategoryId())) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "Source and target category must differ");
+        }
+        requireCategory(request.fromCategoryId(), tenantId);
+        requireCategory(request.toCategoryId(), tenantId);
+        requireCapacity(tenantId);
+
+        CatalogJob job = submit(tenantId, currentUserId, CatalogJobType.RECATEGORIZE,
+            new RecategorizeJobHandler.Parameters(
+                request.fromCategoryId(), request.toCategoryId(), hasAdminRole(roles) ? null : currentUserId));
+
+        log.info("Queued recategorize job {} ({} -> {}) for user: {}, tenant: {}",
+            job.getId(), request.fromCategoryId(), request.toCategoryId(), currentUserId, tenantId);
+        return toResponse(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogJobResponse getJob(UUID jobId, UUID tenantId, UUID currentUserId, List<String> roles) {
+        CatalogJob job = jobRepository.findByIdAndTenantId(jobId, tenantId)
+            .filter(found -> found.getCreatedBy().equals(currentUserId) || hasAdminRole(roles))
+            .orElseThrow(() -> new BusinessException(
+                ErrorCode.BAD_REQUEST,
+                "Job not found: " + jobId
+            ));
+        return toResponse(job);
+    }
+
+    private CatalogJob submit(UUID tenantId, UUID currentUserId, CatalogJobType type, Object parameters) {
+        String parametersJson;
+        try {
+            parametersJson = objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize job parameters", e);
+        }
+        // Flushed so the payload can be stored against the row in the same transaction
+        return jobRepository.saveAndFlush(CatalogJob.builder()
+            .tenantId(tenantId)
+            .createdBy(currentUserId)
+            .type(type.name())
+            .parameters(parametersJson)
+            .build());
+    }
+
+    /**
+     * Admission control: refuse new jobs while the tenant already has many waiting
+     */
+    private void requireCapacity(UUID tenantId) {
+        long pending = jobRepository.countByTenantIdAndStatusIn(tenantId, UNFINISHED_STATUSES);
+        if (pending >= maxPendingPerTenant) {
+            log.warn("Refusing job for tenant {}: {} jobs pending", tenantId, pending);
+            throw new BusinessException(
+                ErrorCode.BAD_REQUEST,
+                "Too many pending jobs (" + pending + "); retry when some have finished"
+            );
+        }
+    }
+
+    private void requireCategory(UUID categoryId, UUID tenantId) {
+        categoryRepository.findByIdAndTenantId(categoryId, tenantId)
+            .orElseThrow(() -> new BusinessException(
+                ErrorCode.CATEGORY_NOT_FOUND,
+                "Category not found: " + categoryId
+            ));
+    }
+
+    private void requireSellerOrAdmin(UUID currentUserId, List<String> roles, String action) {
+        if (roles == null || !(roles.contains("SELLER") || roles.contains("ADMIN"))) {
+            log.warn("Unauthorized: User {} attempted to {} without SELLER/ADMIN role", currentUserId, action);
+            throw new BusinessException(
+                ErrorCode.UNAUTHORIZED,
+                "Only SELLER and ADMIN roles can " + action
+            );
+        }
+    }
+
+    private boolean hasAdminRole(List<String> roles) {
+        return roles != null && roles.contains("ADMIN");
+    }
+
+    /**
+     * Convert CatalogJob entity to CatalogJobResponse DTO, deriving throughput and ETA
+     */
+    private CatalogJobResponse toResponse(CatalogJob job) {
+        CatalogJobStatus status = CatalogJobStatus.valueOf(job.getStatus());
+
+        Long rowsPerSecond = null;
+        Long etaSeconds = null;
+        if (job.getStartedAt() != null && job.getProcessedRows() > 0) {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+            long elapsedMs = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+            rowsPerSecond = job.getProcessedRows() * 1000 / elapsedMs;
+            if (!status.isFinished() && job.getTotalRows() != null) {
+                long remaining = Math.max(0, job.getTotalRows() - job.getProcessedRows());
+                etaSeconds = remaining * elapsedMs / job.getProcessedRows() / 1000;
+            }
+        }
+
+        return new CatalogJobResponse(
+            job.getId(),
+            CatalogJobType.valueOf(job.getType()),
+            status,
+            job.getTotalRows(),
+            job.getProcessedRows(),
+            job.getCreatedRows(),
+            job.getUpdatedRows(),
+            job.getSkippedRows(),
+            job.getRejectedRows(),
+            CatalogJobExecution.readErrors(objectMapper, job.getErrors()),
+            job.getErrorMessage(),
+            rowsPerSecond,
+            etaSeconds,
+            job.getCreatedAt(),
+            job.getStartedAt(),
+            job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.entity.Category;
+import com.ecom.catalog.model.event.CategoryCreatedEvent;
+import com.ecom.catalog.model.event.CategoryDeletedEvent;
+import com.ecom.catalog.model.event.CategoryUpdatedEvent;
+import com.ecom.catalog.model.event.FieldChange;
+import com.ecom.catalog.outbox.OutboxMessage;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox messages of the category lifecycle stream
+ *
+ * <p>All category events go to {@code category-events}, keyed by category ID so that the
+ * events of one category stay in order on one partition. Each event carries the category
+ * row's version; as the relay never lets a later event of a key overtake an earlier one,
+ * an older version than the one held can only be a redelivery.
+ */
+final class CategoryEvents {
+
+    /**
+     * Kafka topic for the full category lifecycle
+     */
+    static final String CATEGORY_EVENTS_TOPIC = "category-events";
+
+    private CategoryEvents() {
+    }
+
+    /**
+     * @param category Inserted category, with its stored version
+     */
+    static OutboxMessage created(Category category) {
+        return new OutboxMessage(CATEGORY_EVENTS_TOPIC, category.getId().toString(),
+            CategoryCreatedEvent.of(
+                category.getId(),
+                category.getTenantId(),
+                category.getName(),
+                category.getDescription(),
+                category.getParentId(),
+                category.getVersion()));
+    }
+
+    /**
+     * @param before {@link #snapshot} taken before the change
+     * @param after Category after the change, with its new version
+     * @return No messages if no field changed
+     */
+    static List<OutboxMessage> updated(Map<String, Object> before, Category after) {
+        Map<String, FieldChange> changes = FieldChange.diff(before, snapshot(after));
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        return List.of(new OutboxMessage(CATEGORY_EVENTS_TOPIC, after.getId().toString(),
+            CategoryUpdatedEvent.of(after.getId(), after.getTenantId(), after.getVersion(), changes)));
+    }
+
+    /**
+     * @param category Category as last stored; the event version is one above it
+     */
+    static OutboxMessage deleted(Category category) {
+        return new OutboxMessage(CATEGORY_EVENTS_TOPIC, category.getId().toString(),
+            CategoryDeletedEvent.of(category.getId(), category.getTenantId(), category.getVersion() + 1));
+    }
+
+    /**
+     * Writable fields of a category keyed by event field name, for change sets
+     */
+    static Map<String, Object> snapshot(Category category) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", category.getName());
+        fields.put("description", category.getDescription());
+        fields.put("parent_id", category.getParentId());
+        return fields;
+    }
+}
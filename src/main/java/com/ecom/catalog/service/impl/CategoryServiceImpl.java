@@ -1,9 +1,16 @@
 package com.ecom.catalog.service.impl;
 
+import com.ecom.catalog.cache.CatalogVersion;
+import com.ecom.catalog.cache.CatalogVersionService;
+import com.ecom.catalog.cache.CategoryCache;
+import com.ecom.catalog.cache.CategoryTreeSnapshot;
+import com.ecom.catalog.cache.SingleFlight;
 import com.ecom.catalog.entity.Category;
+import com.ecom.catalog.model.event.CategoryChangedEvent;
 import com.ecom.catalog.model.request.CategoryRequest;
 import com.ecom.catalog.model.response.CategoryResponse;
 import com.ecom.catalog.model.response.CategoryTreeResponse;
+import com.ecom.catalog.outbox.CatalogOutbox;
 import com.ecom.catalog.repository.CategoryRepository;
 import com.ecom.catalog.repository.ProductRepository;
 import com.ecom.catalog.service.CategoryService;
@@ -11,12 +18,15 @@ import com.ecom.error.exception.BusinessException;
 import com.ecom.error.model.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,6 +40,11 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final CategoryCache categoryCache;
+    private final CatalogVersionService catalogVersionService;
+    private final SingleFlight singleFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogOutbox outbox;
 
     @Override
     @Transactional
@@ -70,49 +85,42 @@ public class CategoryServiceImpl implements CategoryService {
             .tenantId(tenantId)
             .build();
 
-        Category saved = categoryRepository.save(category);
+        // Flushed so the version generated by the insert is read back for the event
+        Category saved = categoryRepository.saveAndFlush(category);
         log.info("Created category: {} for tenant: {}", saved.getId(), tenantId);
+        // Parent's childrenIds changed as well
+        publishCategoryChanged(tenantId, saved.getId(), saved.getParentId());
+        outbox.enqueueAll(List.of(CategoryEvents.created(saved)));
 
         return toCategoryResponse(saved);
     }
 
     @Override
     public CategoryResponse getCategoryById(UUID categoryId, UUID tenantId) {
-        Category category = categoryRepository.findByIdAndTenantId(categoryId, tenantId)
-            .orElseThrow(() -> new BusinessException(
+        // Unknown IDs come back as null and are remembered by the negative cache
+        CategoryResponse response = categoryCache.get(tenantId, categoryId, () ->
+            categoryRepository.findByIdAndTenantId(categoryId, tenantId)
+                .map(this::toCategoryResponse)
+                .orElse(null));
+
+        if (response == null) {
+            throw new BusinessException(
                 ErrorCode.CATEGORY_NOT_FOUND,
                 "Category not found"
-            ));
+            );
+        }
 
-        return toCategoryResponse(category);
+        return response;
     }
 
     @Override
     public List<CategoryResponse> getAllCategories(UUID tenantId) {
-        List<Category> categories = categoryRepository.findByTenantId(tenantId);
-        return categories.stream()
-            .map(this::toCategoryResponse)
-            .collect(Collectors.toList());
+        return getSnapshot(tenantId).categories();
     }
 
     @Override
     public List<CategoryTreeResponse> getCategoryTree(UUID tenantId) {
-        List<Category> allCategories = categoryRepository.findByTenantId(tenantId);
-        
-        // Build a map of parent ID to children
-        Map<UUID, List<Category>> childrenMap = allCategories.stream()
-            .filter(cat -> cat.getParentId() != null)
-            .collect(Collectors.groupingBy(Category::getParentId));
-
-        // Get top-level categories (no parent)
-        List<Category> topLevel = allCategories.stream()
-            .filter(cat -> cat.getParentId() == null)
-            .collect(Collectors.toList());
-
-        // Build tree recursively
-        return topLevel.stream()
-            .map(cat -> buildCategoryTree(cat, childrenMap))
-            .collect(Collectors.toList());
+        return getSnapshot(tenantId).tree();
     }
 
     @Override
@@ -125,9 +133,7 @@ public class CategoryServiceImpl implements CategoryService {
             ));
 
         List<Category> children = categoryRepository.findByParentIdAndTenantId(parentId, tenantId);
-        return children.stream()
-            .map(this::toCategoryResponse)
-            .collect(Collectors.toList());
+        return toCategoryResponses(children, tenantId);
     }
 
     @Override
@@ -182,12 +188,19 @@ public class CategoryServiceImpl implements CategoryService {
                 ));
         }
 
+        UUID previousParentId = category.getParentId();
+        Map<String, Object> before = CategoryEvents.snapshot(category);
+
         category.setName(request.name());
         category.setDescription(request.description());
         category.setParentId(request.parentId());
 
-        Category updated = categoryRepository.save(category);
+        // Flushed to read back the new version for the event
+        Category updated = categoryRepository.saveAndFlush(category);
         log.info("Updated category: {} for tenant: {}", categoryId, tenantId);
+        // Old and new parent's childrenIds may have changed as well
+        publishCategoryChanged(tenantId, categoryId, previousParentId, updated.getParentId());
+        outbox.enqueueAll(CategoryEvents.updated(before, updated));
 
         return toCategoryResponse(updated);
     }
@@ -233,6 +246,13 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryRepository.delete(category);
         log.info("Deleted category: {} for tenant: {}", categoryId, tenantId);
+        outbox.enqueueAll(List.of(CategoryEvents.deleted(category)));
+        publishCategoryChanged(tenantId, categoryId, category.getParentId());
+    }
+
+    @Override
+    public CatalogVersion getCatalogVersion(UUID tenantId) {
+        return catalogVersionService.currentVersion(tenantId);
     }
 
     @Override
@@ -240,12 +260,47 @@ public class CategoryServiceImpl implements CategoryService {
         return roles.contains("SELLER") || roles.contains("ADMIN");
     }
 
+    /**
+     * Publish a cache invalidation event for the given categories (null IDs are ignored)
+     */
+    private void publishCategoryChanged(UUID tenantId, UUID... categoryIds) {
+        eventPublisher.publishEvent(new CategoryChangedEvent(
+            tenantId,
+            Arrays.stream(categoryIds)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())
+        ));
+    }
+
     private CategoryResponse toCategoryResponse(Category category) {
-        List<UUID> childrenIds = categoryRepository.findByParentIdAndTenantId(category.getId(), category.getTenantId())
-            .stream()
+        return toCategoryResponses(List.of(category), category.getTenantId()).get(0);
+    }
+
+    /**
+     * Convert categories to responses, resolving all childrenIds with a single query
+     */
+    private List<CategoryResponse> toCategoryResponses(List<Category> categories, UUID tenantId) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> parentIds = categories.stream()
             .map(Category::getId)
-            .collect(Collectors.toList());
+            .toList();
+
+        Map<UUID, List<UUID>> childrenIdsByParent = categoryRepository.findByParentIdInAndTenantId(parentIds, tenantId)
+            .stream()
+            .collect(Collectors.groupingBy(
+                Category::getParentId,
+                Collectors.mapping(Category::getId, Collectors.toList())
+            ));
+
+        return categories.stream()
+            .map(cat -> toCategoryResponse(cat, childrenIdsByParent.getOrDefault(cat.getId(), List.of())))
+            .toList();
+    }
 
+    private CategoryResponse toCategoryResponse(Category category, List<UUID> childrenIds) {
         return new CategoryResponse(
             category.getId(),
             category.getName(),
@@ -258,12 +313,53 @@ public class CategoryServiceImpl implements CategoryService {
         );
     }
 
+    /**
+     * Current category snapshot; concurrent rebuilds for the same version share one load
+     */
+    private CategoryTreeSnapshot getSnapshot(UUID tenantId) {
+        return categoryCache.getSnapshot(tenantId, version ->
+            singleFlight.execute("category-tree", List.of(tenantId, version), () -> buildSnapshot(tenantId, version)));
+    }
+
+    /**
+     * Build the tenant's tree and flat list from a single query
+     */
+    private CategoryTreeSnapshot buildSnapshot(UUID tenantId, CatalogVersion version) {
+        List<Category> allCategories = categoryRepository.findByTenantId(tenantId);
+        
+        // Build a map of parent ID to children
+        Map<UUID, List<Category>> childrenMap = allCategories.stream()
+            .filter(cat -> cat.getParentId() != null)
+            .collect(Collectors.groupingBy(Category::getParentId));
+
+        // Get top-level categories (no parent)
+        List<Category> topLevel = allCategories.stream()
+            .filter(cat -> cat.getParentId() == null)
+            .collect(Collectors.toList());
+
+        // Build tree recursively
+        List<CategoryTreeResponse> tree = topLevel.stream()
+            .map(cat -> buildCategoryTree(cat, childrenMap))
+            .toList();
+
+        // Flat list reuses the same children map for childrenIds
+        List<CategoryResponse> categories = allCategories.stream()
+            .map(cat -> toCategoryResponse(cat, childrenMap.getOrDefault(cat.getId(), List.of()).stream()
+                .map(Category::getId)
+                .toList()))
+            .toList();
+
+        log.debug("Built category snapshot for tenant: {} ({} categories, version {})",
+            tenantId, allCategories.size(), version);
+        return new CategoryTreeSnapshot(version, tree, categories);
+    }
+
     private CategoryTreeResponse buildCategoryTree(Category category, Map<UUID, List<Category>> childrenMap) {
         List<Category> children = childrenMap.getOrDefault(category.getId(), new ArrayList<>());
         
         List<CategoryTreeResponse> childTrees = children.stream()
             .map(child -> buildCategoryTree(child, childrenMap))
-            .collect(Collectors.toList());
+            .toList();
 
         return new CategoryTreeResponse(
             category.getId(),
@@ -0,0 +1,67 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.model.event.FieldChange;
+import com.ecom.catalog.model.request.CatalogJobType;
+import com.ecom.catalog.model.request.ProductField;
+import com.ecom.catalog.outbox.CatalogOutbox;
+import com.ecom.catalog.repository.ProductBulkRepository;
+import com.ecom.catalog.repository.projection.ProductPriceChangeRow;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * PRICE_ADJUSTMENT jobs: change prices by a percentage
+ */
+@Component
+class PriceAdjustmentJobHandler extends ProductBatchJobHandler {
+
+    /**
+     * Job parameters
+     *
+     * @param sellerId Only this seller's products (null for ADMIN: all products)
+     */
+    record Parameters(UUID categoryId, UUID sellerId, BigDecimal percent) {
+    }
+
+    PriceAdjustmentJobHandler(
+            ProductBulkRepository productBulkRepository,
+            CatalogOutbox outbox,
+            ApplicationEventPublisher eventPublisher) {
+        super(productBulkRepository, outbox, eventPublisher);
+    }
+
+    @Override
+    public CatalogJobType type() {
+        return CatalogJobType.PRICE_ADJUSTMENT;
+    }
+
+    @Override
+    protected Scope scope(CatalogJobExecution execution) {
+        Parameters parameters = execution.parameters(Parameters.class);
+        return new Scope(execution.job().getTenantId(), parameters.categoryId(), parameters.sellerId());
+    }
+
+    @Override
+    protected int update(CatalogJobExecution execution, List<UUID> productIds) {
+        BigDecimal percent = execution.parameters(Parameters.class).percent();
+        BigDecimal factor = BigDecimal.ONE.add(percent.movePointLeft(2));
+        List<ProductPriceChangeRow> changed = productBulkRepository.adjustPrices(productIds, factor);
+
+        UUID tenantId = execution.job().getTenantId();
+        outbox.enqueueAll(changed.stream()
+            .flatMap(row -> ProductEvents.updated(
+                row.id(),
+                tenantId,
+                row.sellerId(),
+                row.version(),
+                row.currency(),
+                Map.of(ProductField.PRICE.getJsonName(), new FieldChange(row.oldPrice(), row.newPrice()))).stream())
+            .toList());
+        return changed.size();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.model.event.ProductsChangedEvent;
+import com.ecom.catalog.outbox.CatalogOutbox;
+import com.ecom.catalog.repository.ProductBulkRepository;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base for jobs that update a scope of existing products
+ *
+ * <p>Walks the scope in product ID order, one chunk of IDs at a time, and checkpoints
+ * the last ID of each chunk; a resumed job continues after it.
+ */
+abstract class ProductBatchJobHandler implements CatalogJobHandler {
+
+    protected final ProductBulkRepository productBulkRepository;
+    protected final CatalogOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+
+    protected ProductBatchJobHandler(
+            ProductBulkRepository productBulkRepository,
+            CatalogOutbox outbox,
+            ApplicationEventPublisher eventPublisher) {
+        this.productBulkRepository = productBulkRepository;
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Products the job works on
+     *
+     * @param categoryId Only this category (null: any)
+     * @param sellerId Only this seller's products (null: any seller, ADMIN)
+     */
+    record Scope(UUID tenantId, UUID categoryId, UUID sellerId) {
+    }
+
+    protected abstract Scope scope(CatalogJobExecution execution);
+
+    /**
+     * Update one chunk of products and record their lifecycle events in the outbox
+     *
+     * @return Number of products updated (the rest are counted as skipped)
+     */
+    protected abstract int update(CatalogJobExecution execution, List<UUID> productIds);
+
+    @Override
+    public boolean run(CatalogJobExecution execution) {
+        Scope scope = scope(execution);
+        if (execution.job().getTotalRows() == null) {
+            execution.total(productBulkRepository.countLive(scope.tenantId(), scope.categoryId(), scope.sellerId()));
+        }
+
+        RowTally tally = execution.tally();
+        UUID afterId = execution.checkpoint() != null ? UUID.fromString(execution.checkpoint()) : null;
+        while (!execution.stopRequested()) {
+            List<UUID> productIds = productBulkRepository.findLiveIds(
+                scope.tenantId(), scope.categoryId(), scope.sellerId(), afterId, execution.chunkSize());
+            if (productIds.isEmpty()) {
+                return true;
+            }
+            afterId = productIds.get(productIds.size() - 1);
+
+            execution.commitChunk(() -> {
+                int updated = update(execution, productIds);
+                tally.received += productIds.size();
+                tally.updated += updated;
+                tally.skipped += productIds.size() - updated;
+                eventPublisher.publishEvent(new ProductsChangedEvent(scope.tenantId(), new LinkedHashSet<>(productIds)));
+            }, afterId.toString());
+        }
+        return false;
+    }
+}
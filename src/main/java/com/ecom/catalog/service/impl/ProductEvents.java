@@ -0,0 +1,148 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.entity.Product;
+import com.ecom.catalog.model.event.FieldChange;
+import com.ecom.catalog.model.event.ProductCreatedEvent;
+import com.ecom.catalog.model.event.ProductDeletedEvent;
+import com.ecom.catalog.model.event.ProductPriceChangedEvent;
+import com.ecom.catalog.model.event.ProductUpdatedEvent;
+import com.ecom.catalog.model.request.ProductField;
+import com.ecom.catalog.model.response.ProductResponse;
+import com.ecom.catalog.outbox.OutboxMessage;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outbox messages of the product lifecycle stream
+ *
+ * <p>ProductCreated, ProductUpdated and ProductDeleted go to {@code product-events}, keyed
+ * by product ID so that the events of one product stay in order on one partition.
+ * ProductCreated is also published on {@code product-created} for existing consumers, and
+ * ProductPriceChanged on {@code product-price-changed}.
+ *
+ * <p>Events carry the row version they describe. The outbox relay sends a key's events
+ * strictly one after another, so a consumer that receives a version at or below the one it
+ * holds is seeing a redelivery of an event it already applied and can drop it. Only a
+ * dead-lettered event is never delivered (see {@code OutboxRelay}); it is reported by the
+ * {@code catalog.outbox.dead} gauge for replay.
+ */
+final class ProductEvents {
+
+    /**
+     * Kafka topic for product creation events
+     */
+    static final String PRODUCT_CREATED_TOPIC = "product-created";
+
+    /**
+     * Kafka topic for the full product lifecycle
+     */
+    static final String PRODUCT_EVENTS_TOPIC = "product-events";
+
+    /**
+     * Kafka topic for price changes
+     */
+    static final String PRODUCT_PRICE_CHANGED_TOPIC = "product-price-changed";
+
+    /**
+     * Key of the soft delete flag in snapshots; set back to false when an upsert restores a product
+     */
+    private static final String DELETED = "deleted";
+
+    private ProductEvents() {
+    }
+
+    /**
+     * @param version Version of the inserted row
+     */
+    static List<OutboxMessage> created(UUID productId, String sku, UUID tenantId, UUID sellerId, long version) {
+        ProductCreatedEvent event = ProductCreatedEvent.of(productId, sku, tenantId, sellerId, version);
+        String key = productId.toString();
+        return List.of(
+            new OutboxMessage(PRODUCT_CREATED_TOPIC, key, event),
+            new OutboxMessage(PRODUCT_EVENTS_TOPIC, key, event)
+        );
+    }
+
+    /**
+     * ProductUpdated, plus ProductPriceChanged if the price changed
+     *
+     * @param before {@link #snapshot} taken before the change (empty if unknown: every field
+     *               is then reported as changed from null)
+     * @param after Product after the change, with its new version
+     * @return No messages if no field changed
+     */
+    static List<OutboxMessage> updated(Map<String, Object> before, Product after) {
+        return updated(
+            after.getId(),
+            after.getTenantId(),
+            after.getSellerId(),
+            after.getVersion(),
+            after.getCurrency(),
+            FieldChange.diff(before, snapshot(after)));
+    }
+
+    /**
+     * ProductUpdated, plus ProductPriceChanged if {@code changes} contains the price
+     *
+     * @param currency Currency of the product after the change
+     * @return No messages if {@code changes} is empty
+     */
+    static List<OutboxMessage> updated(
+            UUID productId,
+            UUID tenantId,
+            UUID sellerId,
+            long version,
+            String currency,
+            Map<String, FieldChange> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        String key = productId.toString();
+        List<OutboxMessage> messages = new ArrayList<>(2);
+        messages.add(new OutboxMessage(PRODUCT_EVENTS_TOPIC, key,
+            ProductUpdatedEvent.of(productId, tenantId, sellerId, version, changes)));
+
+        FieldChange price = changes.get(ProductField.PRICE.getJsonName());
+        if (price != null) {
+            messages.add(new OutboxMessage(PRODUCT_PRICE_CHANGED_TOPIC, key,
+                ProductPriceChangedEvent.of(productId, tenantId, sellerId, version,
+                    (BigDecimal) price.oldValue(), (BigDecimal) price.newValue(), currency)));
+        }
+        return messages;
+    }
+
+    /**
+     * @param product Soft deleted product, with its new version
+     */
+    static OutboxMessage deleted(Product product) {
+        return new OutboxMessage(PRODUCT_EVENTS_TOPIC, product.getId().toString(),
+            ProductDeletedEvent.of(
+                product.getId(),
+                product.getSku(),
+                product.getTenantId(),
+                product.getSellerId(),
+                product.getVersion()));
+    }
+
+    /**
+     * Writable fields of a product keyed by JSON property name, for change sets
+     */
+    static Map<String, Object> snapshot(Product product) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put(ProductField.NAME.getJsonName(), product.getName());
+        fields.put(ProductField.SKU.getJsonName(), product.getSku());
+        fields.put(ProductField.DESCRIPTION.getJsonName(), product.getDescription());
+        fields.put(ProductField.PRICE.getJsonName(), product.getPrice());
+        fields.put(ProductField.CURRENCY.getJsonName(), product.getCurrency());
+        fields.put(ProductField.CATEGORY_ID.getJsonName(), product.getCategoryId());
+        fields.put(ProductField.IMAGES.getJsonName(), ProductResponse.parseImages(product.getImages()));
+        fields.put(ProductField.STATUS.getJsonName(), product.getStatus());
+        fields.put(DELETED, product.getDeleted());
+        return fields;
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.model.request.CatalogJobType;
+import com.ecom.catalog.model.request.ProductImportConflictMode;
+import com.ecom.catalog.model.request.ProductImportFormat;
+import com.ecom.catalog.repository.CatalogJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * PRODUCT_IMPORT jobs: the bulk import of ProductImportService, run from the stored upload
+ *
+ * <p>The checkpoint is the input line of the last committed chunk. SKUs duplicated within
+ * the file are only detected within one run; after a resume, a repeat of an SKU from
+ * before the checkpoint is handled by the conflict mode instead.
+ */
+@Component
+@RequiredArgsConstructor
+class ProductImportJobHandler implements CatalogJobHandler {
+
+    private final ProductImportServiceImpl productImportService;
+    private final CatalogJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Job parameters
+     *
+     * @param sellerId Owner of new products (the submitting user)
+     * @param updateAnySeller Whether UPDATE may overwrite other sellers' products (ADMIN)
+     */
+    record Parameters(
+        ProductImportFormat format,
+        ProductImportConflictMode onConflict,
+        UUID sellerId,
+        boolean updateAnySeller
+    ) {
+    }
+
+    @Override
+    public CatalogJobType type() {
+        return CatalogJobType.PRODUCT_IMPORT;
+    }
+
+    @Override
+    public boolean run(CatalogJobExecution execution) {
+        Parameters parameters = execution.parameters(Parameters.class);
+        byte[] payload = jobRepository.findPayload(execution.job().getId());
+        if (payload == null) {
+            throw new IllegalStateException("Import input of job " + execution.job().getId() + " is missing");
+        }
+        if (execution.job().getTotalRows() == null) {
+            execution.total(countRows(payload, parameters.format()));
+        }
+
+        ProductImportReader reader = new ProductImportReader(open(payload), parameters.format(), objectMapper);
+        if (execution.checkpoint() != null) {
+            reader.skipTo(Long.parseLong(execution.checkpoint()));
+        }
+
+        return productImportService.importRows(
+            reader,
+            parameters.sellerId(),
+            execution.job().getTenantId(),
+            parameters.onConflict(),
+            parameters.updateAnySeller(),
+            execution.tally(),
+            (write, line) -> {
+                execution.commitChunk(write, Long.toString(line));
+                return !execution.stopRequested();
+            });
+    }
+
+    /**
+     * Data rows in the input (non-blank lines, without the CSV header)
+     */
+    private static long countRows(byte[] payload, ProductImportFormat format) {
+        try (BufferedReader reader = open(payload)) {
+            long rows = reader.lines().filter(line -> !line.isBlank()).count();
+            return format == ProductImportFormat.CSV ? Math.max(0, rows - 1) : rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedReader open(byte[] payload) {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8));
+    }
+}
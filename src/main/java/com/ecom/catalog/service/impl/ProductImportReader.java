@@ -0,0 +1,199 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.model.request.ProductImportFormat;
+import com.ecom.catalog.model.request.ProductRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Streaming parser for bulk import input
+ *
+ * <p>Reads one line at a time, so memory use does not depend on the input size. A line
+ * that cannot be parsed becomes a row with an error instead of aborting the import.
+ * CSV values may be quoted ("a, b" and "" for a literal quote) but must not contain
+ * line breaks.
+ */
+class ProductImportReader {
+
+    /**
+     * CSV columns understood by the reader (header names)
+     */
+    private static final List<String> CSV_COLUMNS =
+        List.of("name", "sku", "description", "price", "currency", "category_id", "images", "status");
+
+    private final BufferedReader reader;
+    private final ProductImportFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> csvHeader;
+    private long line = 0;
+
+    ProductImportReader(BufferedReader reader, ProductImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Parsed input row: either a request or an error message
+     */
+    record Row(long line, ProductRequest request, String sku, String error) {
+
+        static Row parsed(long line, ProductRequest request) {
+            return new Row(line, request, request.sku(), null);
+        }
+
+        static Row rejected(long line, String sku, String error) {
+            return new Row(line, null, sku, error);
+        }
+    }
+
+    /**
+     * Next non-blank data row, or null at the end of the input
+     *
+     * @throws IllegalArgumentException if the CSV header is missing or has unknown columns
+     */
+    Row next() {
+        try {
+            if (format == ProductImportFormat.CSV && csvHeader == null) {
+                readCsvHeader();
+            }
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) {
+                    return null;
+                }
+                line++;
+            } while (text.isBlank());
+
+            return format == ProductImportFormat.CSV ? parseCsv(text) : parseJson(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import input at line " + line, e);
+        }
+    }
+
+    /**
+     * Skip ahead to just after the given line (resuming from a checkpoint)
+     *
+     * @throws IllegalArgumentException if the CSV header is missing or has unknown columns
+     */
+    void skipTo(long targetLine) {
+        try {
+            if (format == ProductImportFormat.CSV && csvHeader == null) {
+                readCsvHeader();
+            }
+            while (line < targetLine && reader.readLine() != null) {
+                line++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import input at line " + line, e);
+        }
+    }
+
+    /**
+     * Lines consumed so far (including the header and blank lines)
+     */
+    long lineNumber() {
+        return line;
+    }
+
+    private Row parseJson(String text) {
+        try {
+            return Row.parsed(line, objectMapper.readValue(text, ProductRequest.class));
+        } catch (IOException e) {
+            return Row.rejected(line, null, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private void readCsvHeader() throws IOException {
+        String text = reader.readLine();
+        if (text == null) {
+            csvHeader = Map.of();
+            return;
+        }
+        line++;
+        List<String> names = splitCsv(text);
+        csvHeader = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase();
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown CSV column: " + name + " (expected " + CSV_COLUMNS + ")");
+            }
+            csvHeader.put(name, i);
+        }
+    }
+
+    private Row parseCsv(String text) {
+        List<String> values = splitCsv(text);
+        String sku = column(values, "sku");
+        try {
+            String images = column(values, "images");
+            String price = column(values, "price");
+            String categoryId = column(values, "category_id");
+            ProductRequest request = new ProductRequest(
+                column(values, "name"),
+                sku,
+                column(values, "description"),
+                price != null ? new BigDecimal(price) : null,
+                column(values, "currency"),
+                categoryId != null ? UUID.fromString(categoryId) : null,
+                images != null ? Arrays.asList(images.split("\\|")) : null,
+                column(values, "status")
+            );
+            return Row.parsed(line, request);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException included
+            return Row.rejected(line, sku, "Invalid value: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Value of a column, null if the column is absent or the value empty
+     */
+    private String column(List<String> values, String name) {
+        Integer index = csvHeader.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> splitCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,316 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.entity.Product;
+import com.ecom.catalog.model.event.ProductsChangedEvent;
+import com.ecom.catalog.model.request.ProductImportConflictMode;
+import com.ecom.catalog.model.request.ProductImportFormat;
+import com.ecom.catalog.model.request.ProductRequest;
+import com.ecom.catalog.model.response.ProductImportResponse;
+import com.ecom.catalog.outbox.CatalogOutbox;
+import com.ecom.catalog.outbox.OutboxMessage;
+import com.ecom.catalog.repository.ProductBulkRepository;
+import com.ecom.catalog.repository.projection.ProductUpsertRow;
+import com.ecom.catalog.service.ProductImportService;
+import com.ecom.error.exception.BusinessException;
+import com.ecom.error.model.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ProductImportService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private final ProductBulkRepository productBulkRepository;
+    private final CatalogOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Rows written per INSERT statement
+     */
+    @Value("${catalog.product.import.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Rejected rows listed in the response (all are counted)
+     */
+    @Value("${catalog.product.import.max-errors:100}")
+    private int maxErrors;
+
+    @Override
+    public ProductImportResponse importProducts(
+            UUID sellerId,
+            UUID tenantId,
+            UUID currentUserId,
+            List<String> roles,
+            ProductImportFormat format,
+            ProductImportConflictMode conflictMode,
+            InputStream input) {
+
+        log.info("Importing products ({}, onConflict={}) for seller: {}, tenant: {}",
+            format, conflictMode, sellerId, tenantId);
+
+        // 1. Authorization check: Only SELLER and ADMIN can create products
+        if (roles == null || !(roles.contains("SELLER") || roles.contains("ADMIN"))) {
+            log.warn("Unauthorized: User {} attempted to import products without SELLER/ADMIN role", currentUserId);
+            throw new BusinessException(
+                ErrorCode.UNAUTHORIZED,
+                "Only SELLER and ADMIN roles can import products"
+            );
+        }
+        boolean updateAnySeller = roles.contains("ADMIN");
+
+        long startNanos = System.nanoTime();
+        RowTally tally = new RowTally(maxErrors);
+        ProductImportReader reader = new ProductImportReader(
+            new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), format, objectMapper);
+
+        // 2. Stream rows; each chunk is committed in its own transaction
+        importRows(reader, sellerId, tenantId, conflictMode, updateAnySeller, tally, (write, line) -> {
+            transactionTemplate.executeWithoutResult(status -> write.run());
+            return true;
+        });
+
+        long durationMs = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("Imported products for seller: {}, tenant: {}: received={}, created={}, updated={}, skipped={}, rejected={} in {} ms",
+            sellerId, tenantId, tally.received, tally.created, tally.updated, tally.skipped, tally.rejected, durationMs);
+
+        return new ProductImportResponse(
+            tally.received,
+            tally.created,
+            tally.updated,
+            tally.skipped,
+            tally.rejected,
+            tally.errors,
+            durationMs,
+            tally.received * 1000 / durationMs
+        );
+    }
+
+    /**
+     * Writes one chunk, possibly in a transaction together with saving progress
+     */
+    interface ChunkCommitter {
+
+        /**
+         * @param write Writes the chunk (may be an empty chunk at the end of the input)
+         * @param line Input line of the last row read
+         * @return false to stop reading after this chunk
+         */
+        boolean commit(Runnable write, long line);
+    }
+
+    /**
+     * Stream rows from {@code reader}: parse, validate, de-duplicate and write in chunks
+     * 
+     * <p>Also used by catalog import jobs, which resume a reader from a checkpoint and save
+     * their progress with each chunk. SKUs are only de-duplicated within one call.
+     * 
+     * @return true if the input was read to the end, false if the committer stopped it
+     * @throws BusinessException if the CSV header is invalid
+     */
+    boolean importRows(
+            ProductImportReader reader,
+            UUID sellerId,
+            UUID tenantId,
+            ProductImportConflictMode conflictMode,
+            boolean updateAnySeller,
+            RowTally tally,
+            ChunkCommitter committer) {
+        Set<String> seenSkus = new HashSet<>();
+        List<Product> chunk = new ArrayList<>(chunkSize);
+        Map<String, Long> chunkLines = new HashMap<>(); // Input line of each chunk row, by SKU
+        try {
+            ProductImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                tally.received++;
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error == null && !seenSkus.add(row.sku())) {
+                    error = "Duplicate SKU in import: " + row.sku();
+                }
+                Product product = error == null ? toProduct(row.request(), sellerId, tenantId) : null;
+                if (error == null && product == null) {
+                    error = "Invalid images format";
+                }
+                if (error != null) {
+                    tally.reject(row.line(), row.sku(), error);
+                    continue;
+                }
+
+                chunk.add(product);
+                chunkLines.put(row.sku(), row.line());
+                if (chunk.size() >= chunkSize) {
+                    boolean proceed = committer.commit(
+                        () -> writeChunk(chunk, chunkLines, sellerId, tenantId, conflictMode, updateAnySeller, tally),
+                        reader.lineNumber());
+                    chunk.clear();
+                    chunkLines.clear();
+                    if (!proceed) {
+                        return false;
+                    }
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, e.getMessage());
+        }
+        // Also commits progress for rejected rows after the last full chunk
+        committer.commit(
+            () -> writeChunk(chunk, chunkLines, sellerId, tenantId, conflictMode, updateAnySeller, tally),
+            reader.lineNumber());
+        return true;
+    }
+
+    /**
+     * Write one chunk, record its lifecycle events in the outbox and publish cache
+     * invalidation; must run in a transaction
+     *
+     * <p>Rows whose category does not exist in the tenant are rejected.
+     */
+    private void writeChunk(
+            List<Product> rows,
+            Map<String, Long> lines,
+            UUID sellerId,
+            UUID tenantId,
+            ProductImportConflictMode conflictMode,
+            boolean updateAnySeller,
+            RowTally tally) {
+        List<Product> chunk = withKnownCategories(rows, lines, tenantId, tally);
+        if (chunk.isEmpty()) {
+            return;
+        }
+        // Existing products are locked first, so their change sets describe exactly what the upsert replaces
+        Map<String, Product> previous = conflictMode == ProductImportConflictMode.UPDATE
+            ? productBulkRepository.lockBySkus(tenantId, chunk.stream().map(Product::getSku).toList()).stream()
+                .collect(Collectors.toMap(Product::getSku, Function.identity()))
+            : Map.of();
+        List<ProductUpsertRow> written = productBulkRepository.upsert(
+            chunk, sellerId, tenantId, conflictMode, updateAnySeller);
+
+        long created = written.stream().filter(ProductUpsertRow::created).count();
+        tally.created += created;
+        tally.updated += written.size() - created;
+        tally.skipped += chunk.size() - written.size();
+
+        // Dispatched once the chunk's transaction commits
+        eventPublisher.publishEvent(new ProductsChangedEvent(
+            tenantId,
+            written.stream().map(ProductUpsertRow::id).collect(Collectors.toSet())
+        ));
+
+        Map<String, Product> bySku = chunk.stream().collect(Collectors.toMap(Product::getSku, Function.identity()));
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (ProductUpsertRow row : written) {
+            if (row.created()) {
+                messages.addAll(ProductEvents.created(row.id(), row.sku(), tenantId, sellerId, row.version()));
+                continue;
+            }
+            Product before = previous.get(row.sku());
+            Product after = bySku.get(row.sku());
+            after.setId(row.id());
+            after.setSellerId(before != null ? before.getSellerId() : sellerId);
+            after.setVersion(row.version());
+            messages.addAll(ProductEvents.updated(
+                before != null ? ProductEvents.snapshot(before) : Map.of(), after));
+        }
+        outbox.enqueueAll(messages);
+    }
+
+    /**
+     * Rows of a chunk whose category is unset or exists in the tenant; the others are
+     * rejected (one lookup per chunk, instead of the chunk failing on fk_product_category)
+     */
+    private List<Product> withKnownCategories(
+            List<Product> chunk, Map<String, Long> lines, UUID tenantId, RowTally tally) {
+        Set<UUID> categoryIds = chunk.stream()
+            .map(Product::getCategoryId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (categoryIds.isEmpty()) {
+            return chunk;
+        }
+        Set<UUID> existing = productBulkRepository.findExistingCategoryIds(tenantId, categoryIds);
+        if (existing.size() == categoryIds.size()) {
+            return chunk;
+        }
+        List<Product> known = new ArrayList<>(chunk.size());
+        for (Product product : chunk) {
+            if (product.getCategoryId() == null || existing.contains(product.getCategoryId())) {
+                known.add(product);
+            } else {
+                tally.reject(lines.get(product.getSku()), product.getSku(),
+                    "Category not found: " + product.getCategoryId());
+            }
+        }
+        return known;
+    }
+
+    /**
+     * Bean validation of a row; null if valid
+     */
+    private String validate(ProductRequest request) {
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Transient product for the bulk insert; null if the images cannot be serialized
+     */
+    private Product toProduct(ProductRequest request, UUID sellerId, UUID tenantId) {
+        String imagesJson = null;
+        if (request.images() != null && !request.images().isEmpty()) {
+            try {
+                imagesJson = objectMapper.writeValueAsString(request.images());
+            } catch (JsonProcessingException e) {
+                return null;
+            }
+        }
+        return Product.builder()
+            .name(request.name())
+            .sku(request.sku())
+            .description(request.description())
+            .price(request.price())
+            .currency(request.currency())
+            .categoryId(request.categoryId())
+            .sellerId(sellerId)
+            .tenantId(tenantId)
+            .images(imagesJson)
+            .status(request.status())
+            .deleted(false)
+            .build();
+    }
+}
@@ -1,11 +1,30 @@
 package com.ecom.catalog.service.impl;
 
+import com.ecom.catalog.cache.ProductCache;
+import com.ecom.catalog.cache.ProductFacetCache;
+import com.ecom.catalog.cache.SingleFlight;
 import com.ecom.catalog.entity.Product;
-import com.ecom.catalog.model.event.ProductCreatedEvent;
+import com.ecom.catalog.model.event.ProductChangedEvent;
+import com.ecom.catalog.model.request.ProductCountMode;
+import com.ecom.catalog.model.request.ProductField;
 import com.ecom.catalog.model.request.ProductRequest;
+import com.ecom.catalog.model.request.ProductSearchCriteria;
+import com.ecom.catalog.model.request.ProductSearchCursor;
+import com.ecom.catalog.model.request.ProductSearchMode;
+import com.ecom.catalog.model.request.ProductSearchView;
+import com.ecom.catalog.model.response.ProductBatchResponse;
 import com.ecom.catalog.model.response.ProductResponse;
+import com.ecom.catalog.model.response.ProductSearchFacets;
 import com.ecom.catalog.model.response.ProductSearchResponse;
+import com.ecom.catalog.model.response.ProductSummaryResponse;
+import com.ecom.catalog.model.response.ProductUpsertResponse;
+import com.ecom.catalog.outbox.CatalogOutbox;
+import com.ecom.catalog.repository.ProductBulkRepository;
 import com.ecom.catalog.repository.ProductRepository;
+import com.ecom.catalog.repository.projection.ProductFacetRow;
+import com.ecom.catalog.repository.projection.ProductFieldsRow;
+import com.ecom.catalog.repository.projection.ProductSummaryRow;
+import com.ecom.catalog.repository.projection.ProductUpsertResult;
 import com.ecom.catalog.service.ProductService;
 import com.ecom.error.exception.BusinessException;
 import com.ecom.error.model.ErrorCode;
@@ -13,15 +32,24 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of ProductService
@@ -32,13 +60,37 @@ import java.util.UUID;
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
-    private final KafkaTemplate<String, ProductCreatedEvent> kafkaTemplate;
+    private final ProductBulkRepository productBulkRepository;
+    private final CatalogOutbox outbox;
+    private final ProductCache productCache;
+    private final ProductFacetCache facetCache;
+    private final SingleFlight singleFlight;
+    private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
 
     /**
-     * Kafka topic for product creation events
+     * Retry a full-text search that matched nothing with the substring (LIKE) search
      */
-    private static final String PRODUCT_CREATED_TOPIC = "product-created";
+    @Value("${catalog.search.like-fallback:true}")
+    private boolean likeFallbackEnabled;
+
+    /**
+     * Row count at which ESTIMATED counting stops (reported as "cap+")
+     */
+    @Value("${catalog.search.count-cap:10000}")
+    private long countCap;
+
+    /**
+     * Largest page size a search may request
+     */
+    @Value("${catalog.search.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * Maximum number of distinct IDs per batch read
+     */
+    @Value("${catalog.product.batch.max-size:100}")
+    private int batchMaxSize;
 
     @Override
     @Transactional
@@ -60,23 +112,7 @@ public class ProductServiceImpl implements ProductService {
             );
         }
 
-        // 2. Check SKU uniqueness within tenant
-        boolean skuExists = productRepository.findBySkuAndTenantId(request.sku(), tenantId).isPresent();
-        if (skuExists) {
-            log.warn("Duplicate SKU detected: {} for tenant: {}", request.sku(), tenantId);
-            throw new BusinessException(
-                ErrorCode.SKU_REQUIRED,
-                "SKU already exists: " + request.sku()
-            );
-        }
-
-        // 3. Validate category if provided
-        if (request.categoryId() != null) {
-            // Category validation would go here if CategoryRepository is injected
-            // For now, we'll just check if category exists in the same tenant
-        }
-
-        // 4. Serialize images to JSON
+        // 2. Serialize images to JSON
         String imagesJson = null;
         if (request.images() != null && !request.images().isEmpty()) {
             try {
@@ -90,7 +126,7 @@ public class ProductServiceImpl implements ProductService {
             }
         }
 
-        // 5. Create new product
+        // 3. Create new product (SKU uniqueness and the category are enforced by constraints)
         Product product = Product.builder()
             .name(request.name())
             .sku(request.sku())
@@ -105,23 +141,23 @@ public class ProductServiceImpl implements ProductService {
             .deleted(false)
             .build();
 
-        Product savedProduct = productRepository.save(product);
-        log.info("Created product {} for seller: {}, tenant: {}", savedProduct.getId(), sellerId, tenantId);
-
-        // 6. Publish ProductCreated event to Kafka
+        Product savedProduct;
         try {
-            ProductCreatedEvent event = ProductCreatedEvent.of(
-                savedProduct.getId(),
-                savedProduct.getSku(),
-                savedProduct.getTenantId(),
-                savedProduct.getSellerId()
-            );
-            kafkaTemplate.send(PRODUCT_CREATED_TOPIC, savedProduct.getId().toString(), event);
-            log.info("Published ProductCreated event for product: {}", savedProduct.getId());
-        } catch (Exception e) {
-            log.error("Failed to publish ProductCreated event for product: {}", savedProduct.getId(), e);
-            // Don't fail the request if Kafka publish fails - event can be retried
+            savedProduct = productRepository.saveAndFlush(product);
+        } catch (DataIntegrityViolationException e) {
+            throw toBusinessException(e, request);
         }
+        log.info("Created product {} for seller: {}, tenant: {}", savedProduct.getId(), sellerId, tenantId);
+        eventPublisher.publishEvent(new ProductChangedEvent(tenantId, savedProduct.getId()));
+
+        // 4. Record ProductCreated event in the outbox (published to Kafka after commit)
+        outbox.enqueueAll(ProductEvents.created(
+            savedProduct.getId(),
+            savedProduct.getSku(),
+            savedProduct.getTenantId(),
+            savedProduct.getSellerId(),
+            savedProduct.getVersion()
+        ));
 
         return toResponse(savedProduct);
     }
@@ -130,52 +166,273 @@ public class ProductServiceImpl implements ProductService {
     public ProductResponse getProductById(UUID productId, UUID tenantId) {
         log.debug("Getting product {} for tenant: {}", productId, tenantId);
 
-        // 1. Find product (active only)
-        Product product = productRepository.findByIdAndTenantIdAndDeletedFalse(productId, tenantId)
-            .orElseThrow(() -> new BusinessException(
+        // 1. Served from the near cache; on a miss concurrent callers share one database load,
+        //    but only with callers that captured the same cache generations (a load started
+        //    before an eviction must not be cached by a caller that arrived after it).
+        //    Unknown IDs come back as null and are remembered by the negative cache.
+        ProductResponse response = productCache.get(tenantId, productId, generations ->
+            singleFlight.execute("product", List.of(tenantId, productId, generations), () ->
+                productRepository.findByIdAndTenantIdAndDeletedFalse(productId, tenantId)
+                    .map(this::toResponse)
+                    .orElse(null)));
+
+        // 2. Product not found (active only)
+        if (response == null) {
+            throw new BusinessException(
                 ErrorCode.PRODUCT_NOT_FOUND,
                 "Product not found: " + productId
-            ));
+            );
+        }
 
-        return toResponse(product);
+        return response;
     }
 
     @Override
-    public ProductSearchResponse searchProducts(
-            UUID tenantId,
-            String query,
-            UUID categoryId,
-            BigDecimal minPrice,
-            BigDecimal maxPrice,
-            int page,
-            int size) {
+    public ProductBatchResponse<ProductResponse> getProductsByIds(List<UUID> productIds, UUID tenantId) {
+        Set<UUID> ids = new LinkedHashSet<>(productIds);
+        log.debug("Getting {} products for tenant: {}", ids.size(), tenantId);
+
+        if (ids.size() > batchMaxSize) {
+            throw new BusinessException(
+                ErrorCode.BAD_REQUEST,
+                "At most " + batchMaxSize + " product IDs can be requested at once"
+            );
+        }
+
+        // 1. Cached products first; the rest with a single id = ANY(...) query
+        Map<UUID, ProductResponse> found = productCache.getAll(tenantId, ids, missing ->
+            productRepository.findAllByIdInTenant(missing.toArray(UUID[]::new), tenantId).stream()
+                .collect(Collectors.toMap(Product::getId, this::toResponse)));
+
+        // 2. Keyed by ID in request order, unknown IDs reported instead of failing the call
+        Map<UUID, ProductResponse> products = new LinkedHashMap<>();
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : ids) {
+            ProductResponse product = found.get(id);
+            if (product != null) {
+                products.put(id, product);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ProductBatchResponse<>(products, missingIds);
+    }
+
+    @Override
+    public ProductSearchResponse<?> searchProducts(ProductSearchCriteria criteria) {
         
-        log.debug("Searching products for tenant: {}, query: {}, category: {}, page: {}, size: {}", 
-            tenantId, query, categoryId, page, size);
-
-        // 1. Build search criteria
-        Page<Product> productPage = productRepository.searchProducts(
-            tenantId,
-            categoryId,
-            minPrice,
-            maxPrice,
-            query,
-            org.springframework.data.domain.PageRequest.of(page, size)
+        log.debug("Searching products for tenant: {}, query: {}, mode: {}, category: {}, page: {}, size: {}", 
+            criteria.tenantId(), criteria.query(), criteria.mode(), criteria.categoryId(),
+            criteria.page(), criteria.size());
+
+        if (criteria.page() < 0) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "page must not be negative");
+        }
+        if (criteria.size() < 1 || criteria.size() > maxPageSize) {
+            throw new BusinessException(
+                ErrorCode.BAD_REQUEST,
+                "size must be between 1 and " + maxPageSize
+            );
+        }
+
+        // Criteria are normalized, so identical concurrent searches share one query
+        return singleFlight.execute("product-search", criteria, () -> search(criteria));
+    }
+
+    private ProductSearchResponse<?> search(ProductSearchCriteria criteria) {
+        if (criteria.isCursorMode()) {
+            // Keyset queries match the query in the requested mode, ordered by the sort key
+            ProductSearchResponse<?> response = searchAfterCursor(criteria);
+            return withFacets(response, criteria,
+                criteria.query() != null ? criteria.mode() : ProductSearchMode.LIKE);
+        }
+
+        // 1. Full-text or fuzzy search when a query is given; LIKE only on request or as a fallback
+        ProductSearchMode mode = criteria.query() != null ? criteria.mode() : ProductSearchMode.LIKE;
+        ProductSearchResponse<?> response = searchPage(criteria, mode);
+
+        // Decided from the full-text total, not the page, so every page of a fallback search
+        // is served (and counted) by LIKE; an empty page 0 already means no matches
+        if (mode == ProductSearchMode.FULL_TEXT && likeFallbackEnabled && response.products().isEmpty()
+                && (criteria.page() == 0 || productRepository.countMatches(criteria, mode, 1) == 0)) {
+            // e.g. partial words or stop-word-only queries that full-text search cannot match
+            log.debug("No full-text matches for query: {}, falling back to substring search", criteria.query());
+            mode = ProductSearchMode.LIKE;
+            response = searchPage(criteria, mode);
+        }
+
+        // 2. Facets over the same filters and match mode as the returned products
+        return withFacets(response, criteria, mode);
+    }
+
+    private <T> ProductSearchResponse<T> withFacets(
+            ProductSearchResponse<T> response, ProductSearchCriteria criteria, ProductSearchMode mode) {
+        if (!criteria.hasFacets()) {
+            return response;
+        }
+        ProductFacetCache.Key key = new ProductFacetCache.Key(
+            criteria.tenantId(),
+            criteria.query(),
+            mode,
+            criteria.categoryId(),
+            criteria.minPrice(),
+            criteria.maxPrice(),
+            criteria.inStock(),
+            criteria.facetBucketWidth()
         );
+        return response.withFacets(facetCache.get(key, () -> computeFacets(criteria, mode)));
+    }
+
+    /**
+     * Category, status and price-bucket counts from one grouped query
+     */
+    private ProductSearchFacets computeFacets(ProductSearchCriteria criteria, ProductSearchMode mode) {
+        BigDecimal width = criteria.facetBucketWidth();
+        List<ProductFacetRow> rows = productRepository.facets(criteria, mode, width);
+
+        List<ProductSearchFacets.CategoryCount> categories = new ArrayList<>();
+        List<ProductSearchFacets.StatusCount> statuses = new ArrayList<>();
+        List<ProductSearchFacets.PriceBucket> priceHistogram = new ArrayList<>();
+        for (ProductFacetRow row : rows) {
+            switch (row.facet()) {
+                case "CATEGORY" -> categories.add(
+                    new ProductSearchFacets.CategoryCount(row.category(), row.total()));
+                case "STATUS" -> statuses.add(
+                    new ProductSearchFacets.StatusCount(row.status(), row.total()));
+                default -> {
+                    if (row.bucket() != null) {
+                        BigDecimal min = row.bucket().multiply(width);
+                        priceHistogram.add(
+                            new ProductSearchFacets.PriceBucket(min, min.add(width), row.total()));
+                    }
+                }
+            }
+        }
 
-        // 2. Convert to response
-        List<ProductResponse> products = productPage.getContent().stream()
-            .map(this::toResponse)
-            .toList();
-
-        return new ProductSearchResponse(
-            products,
-            productPage.getNumber(),
-            productPage.getSize(),
-            productPage.getTotalElements(),
-            productPage.getTotalPages(),
-            productPage.isFirst(),
-            productPage.isLast()
+        categories.sort(Comparator.comparingLong(ProductSearchFacets.CategoryCount::count).reversed());
+        statuses.sort(Comparator.comparingLong(ProductSearchFacets.StatusCount::count).reversed());
+        priceHistogram.sort(Comparator.comparing(ProductSearchFacets.PriceBucket::min));
+        return new ProductSearchFacets(categories, statuses, priceHistogram);
+    }
+
+    /**
+     * Page-number search with the requested count mode
+     */
+    private ProductSearchResponse<?> searchPage(ProductSearchCriteria criteria, ProductSearchMode mode) {
+        long offset = (long) criteria.page() * criteria.size();
+        // Fetch one extra row to know whether a next page exists
+        int limit = criteria.size() + 1;
+
+        if (criteria.fields() != null) {
+            List<Map<String, Object>> rows = productRepository.searchFields(criteria, mode, offset, limit)
+                .stream().map(row -> toFieldsResponse(row, criteria.fields())).toList();
+            return toPage(criteria, mode, offset, rows);
+        }
+        if (criteria.view() == ProductSearchView.SUMMARY) {
+            List<ProductSummaryResponse> rows = productRepository.searchSummaries(criteria, mode, offset, limit)
+                .stream().map(this::toSummaryResponse).toList();
+            return toPage(criteria, mode, offset, rows);
+        }
+        List<ProductResponse> rows = productRepository.search(criteria, mode, offset, limit)
+            .stream().map(this::toResponse).toList();
+        return toPage(criteria, mode, offset, rows);
+    }
+
+    private <T> ProductSearchResponse<T> toPage(
+            ProductSearchCriteria criteria, ProductSearchMode mode, long offset, List<T> rows) {
+        boolean hasNext = rows.size() > criteria.size();
+        List<T> pageRows = hasNext ? rows.subList(0, criteria.size()) : rows;
+
+        long totalElements = -1;
+        ProductCountMode countMode = ProductCountMode.NONE;
+        if (!hasNext && (!pageRows.isEmpty() || criteria.page() == 0)) {
+            // Last page reached: the total is known without a count query
+            totalElements = offset + pageRows.size();
+            countMode = ProductCountMode.EXACT;
+        } else if (criteria.countMode() == ProductCountMode.EXACT) {
+            totalElements = productRepository.countMatches(criteria, mode);
+            countMode = ProductCountMode.EXACT;
+        } else if (criteria.countMode() == ProductCountMode.ESTIMATED) {
+            // Count at most up to the cap (or just past the current page when deeper)
+            long cap = Math.max(countCap, offset + criteria.size() + 1);
+            totalElements = productRepository.countMatches(criteria, mode, cap);
+            countMode = totalElements < cap ? ProductCountMode.EXACT : ProductCountMode.ESTIMATED;
+        }
+
+        int totalPages = totalElements >= 0
+            ? (int) ((totalElements + criteria.size() - 1) / criteria.size())
+            : -1;
+
+        return new ProductSearchResponse<>(
+            pageRows,
+            criteria.page(),
+            criteria.size(),
+            totalElements,
+            totalPages,
+            criteria.page() == 0,
+            !hasNext,
+            countMode,
+            null,
+            null
+        );
+    }
+
+    /**
+     * Keyset-paginated search: seeks past the cursor position instead of using OFFSET
+     */
+    private ProductSearchResponse<?> searchAfterCursor(ProductSearchCriteria criteria) {
+        // One extra row tells whether another page exists without counting
+        int limit = criteria.size() + 1;
+
+        if (criteria.fields() != null) {
+            return toCursorPage(
+                criteria,
+                productRepository.searchFieldsAfter(criteria, limit),
+                row -> ProductSearchCursor.after(criteria.sort(), row.createdAt(), row.price(), row.id()),
+                row -> toFieldsResponse(row, criteria.fields())
+            );
+        }
+        if (criteria.view() == ProductSearchView.SUMMARY) {
+            return toCursorPage(
+                criteria,
+                productRepository.searchSummariesAfter(criteria, limit),
+                row -> ProductSearchCursor.after(criteria.sort(), row.createdAt(), row.price(), row.id()),
+                this::toSummaryResponse
+            );
+        }
+        return toCursorPage(
+            criteria,
+            productRepository.searchAfter(criteria, limit),
+            product -> ProductSearchCursor.after(
+                criteria.sort(), product.getCreatedAt(), product.getPrice(), product.getId()),
+            this::toResponse
+        );
+    }
+
+    private <R, T> ProductSearchResponse<T> toCursorPage(
+            ProductSearchCriteria criteria,
+            List<R> rows,
+            Function<R, ProductSearchCursor> cursorAfter,
+            Function<R, T> mapper) {
+        boolean hasMore = rows.size() > criteria.size();
+        List<R> pageRows = hasMore ? rows.subList(0, criteria.size()) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            nextCursor = cursorAfter.apply(pageRows.get(pageRows.size() - 1)).encode();
+        }
+
+        return new ProductSearchResponse<>(
+            pageRows.stream().map(mapper).toList(),
+            0,
+            criteria.size(),
+            -1,
+            -1,
+            criteria.after() == null,
+            !hasMore,
+            ProductCountMode.NONE,
+            nextCursor,
+            null
         );
     }
 
@@ -207,19 +464,8 @@ public class ProductServiceImpl implements ProductService {
             );
         }
 
-        // 3. Check SKU uniqueness if SKU is being changed
-        if (!product.getSku().equals(request.sku())) {
-            boolean skuExists = productRepository.findBySkuAndTenantId(request.sku(), tenantId).isPresent();
-            if (skuExists) {
-                log.warn("Duplicate SKU detected: {} for tenant: {}", request.sku(), tenantId);
-                throw new BusinessException(
-                    ErrorCode.SKU_REQUIRED,
-                    "SKU already exists: " + request.sku()
-                );
-            }
-        }
-
-        // 4. Serialize images to JSON if provided
+        // 3. Serialize images to JSON if provided (state before the change kept for the event)
+        Map<String, Object> before = ProductEvents.snapshot(product);
         if (request.images() != null && !request.images().isEmpty()) {
             try {
                 String imagesJson = objectMapper.writeValueAsString(request.images());
@@ -233,7 +479,7 @@ public class ProductServiceImpl implements ProductService {
             }
         }
 
-        // 5. Update product fields
+        // 4. Update product fields (a changed SKU's uniqueness is enforced by the constraint)
         product.setName(request.name());
         product.setSku(request.sku());
         if (request.description() != null) {
@@ -248,12 +494,115 @@ public class ProductServiceImpl implements ProductService {
             product.setStatus(request.status());
         }
 
-        Product savedProduct = productRepository.save(product);
+        Product savedProduct;
+        try {
+            savedProduct = productRepository.saveAndFlush(product);
+        } catch (DataIntegrityViolationException e) {
+            throw toBusinessException(e, request);
+        }
         log.info("Updated product {} for seller: {}", productId, product.getSellerId());
+        eventPublisher.publishEvent(new ProductChangedEvent(tenantId, productId));
+
+        // 5. Record ProductUpdated (and ProductPriceChanged) events for the changed fields
+        outbox.enqueueAll(ProductEvents.updated(before, savedProduct));
 
         return toResponse(savedProduct);
     }
 
+    @Override
+    @Transactional
+    public ProductUpsertResponse upsertProductBySku(
+            UUID sellerId,
+            UUID tenantId,
+            UUID currentUserId,
+            List<String> roles,
+            String sku,
+            ProductRequest request) {
+        
+        log.debug("Upserting product with SKU {} for seller: {}, tenant: {}", sku, sellerId, tenantId);
+
+        // 1. Authorization check: Only SELLER and ADMIN can write products
+        if (!hasSellerOrAdminRole(roles)) {
+            log.warn("Unauthorized: User {} attempted to upsert product without SELLER/ADMIN role", currentUserId);
+            throw new BusinessException(
+                ErrorCode.UNAUTHORIZED,
+                "Only SELLER and ADMIN roles can create or update products"
+            );
+        }
+
+        // 2. The path identifies the product, so the body must not name another SKU
+        if (!sku.equals(request.sku())) {
+            throw new BusinessException(
+                ErrorCode.BAD_REQUEST,
+                "SKU in path (" + sku + ") does not match SKU in body (" + request.sku() + ")"
+            );
+        }
+
+        // 3. Serialize images to JSON
+        String imagesJson = null;
+        if (request.images() != null && !request.images().isEmpty()) {
+            try {
+                imagesJson = objectMapper.writeValueAsString(request.images());
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize images to JSON", e);
+                throw new BusinessException(
+                    ErrorCode.SKU_REQUIRED,
+                    "Invalid images format"
+                );
+            }
+        }
+
+        // 4. Lock an existing product, then insert or update in one statement
+        Map<String, Object> before = productBulkRepository.lockBySkus(tenantId, List.of(sku)).stream()
+            .findFirst()
+            .map(ProductEvents::snapshot)
+            .orElse(Map.of());
+        Product product = Product.builder()
+            .name(request.name())
+            .sku(sku)
+            .description(request.description())
+            .price(request.price())
+            .currency(request.currency())
+            .categoryId(request.categoryId())
+            .sellerId(sellerId)
+            .tenantId(tenantId)
+            .images(imagesJson)
+            .status(request.status())
+            .deleted(false)
+            .build();
+
+        ProductUpsertResult result;
+        try {
+            result = productBulkRepository.upsertBySku(product, hasAdminRole(roles))
+                .orElseThrow(() -> {
+                    log.warn("Unauthorized: User {} attempted to upsert SKU {} owned by another seller", currentUserId, sku);
+                    return new BusinessException(
+                        ErrorCode.UNAUTHORIZED,
+                        "You do not have permission to update this product"
+                    );
+                });
+        } catch (DataIntegrityViolationException e) {
+            throw toBusinessException(e, request);
+        }
+
+        Product savedProduct = result.product();
+        log.info("{} product {} (SKU {}) for seller: {}, tenant: {}",
+            result.created() ? "Created" : "Updated", savedProduct.getId(), sku, savedProduct.getSellerId(), tenantId);
+        eventPublisher.publishEvent(new ProductChangedEvent(tenantId, savedProduct.getId()));
+
+        // 5. Record ProductCreated, or ProductUpdated for the changed fields, in the outbox
+        outbox.enqueueAll(result.created()
+            ? ProductEvents.created(
+                savedProduct.getId(),
+                savedProduct.getSku(),
+                savedProduct.getTenantId(),
+                savedProduct.getSellerId(),
+                savedProduct.getVersion())
+            : ProductEvents.updated(before, savedProduct));
+
+        return new ProductUpsertResponse(toResponse(savedProduct), result.created());
+    }
+
     @Override
     @Transactional
     public void deleteProduct(
@@ -281,10 +630,12 @@ public class ProductServiceImpl implements ProductService {
             );
         }
 
-        // 3. Soft delete
+        // 3. Soft delete (flushed to read back the new version for the event)
         product.setDeleted(true);
         product.setDeletedAt(LocalDateTime.now());
-        productRepository.save(product);
+        Product savedProduct = productRepository.saveAndFlush(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(tenantId, productId));
+        outbox.enqueueAll(List.of(ProductEvents.deleted(savedProduct)));
         
         log.info("Soft deleted product {} for seller: {}", productId, product.getSellerId());
     }
@@ -324,6 +675,32 @@ public class ProductServiceImpl implements ProductService {
         return roles != null && roles.contains("ADMIN");
     }
 
+    /**
+     * Map a constraint violation on the products table to the matching business error
+     */
+    private BusinessException toBusinessException(DataIntegrityViolationException e, ProductRequest request) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+        if (message.contains("uk_products_sku_tenant")) {
+            log.warn("Duplicate SKU detected: {}", request.sku());
+            return new BusinessException(
+                ErrorCode.SKU_REQUIRED,
+                "SKU already exists: " + request.sku()
+            );
+        }
+        if (message.contains("fk_product_category")) {
+            log.warn("Unknown category: {}", request.categoryId());
+            return new BusinessException(
+                ErrorCode.CATEGORY_NOT_FOUND,
+                "Category not found: " + request.categoryId()
+            );
+        }
+        log.error("Product write violated a constraint", e);
+        return new BusinessException(
+            ErrorCode.BAD_REQUEST,
+            "Product data violates a constraint"
+        );
+    }
+
     /**
      * Convert Product entity to ProductResponse DTO
      */
@@ -343,5 +720,32 @@ public class ProductServiceImpl implements ProductService {
             product.getUpdatedAt()
         );
     }
+
+    /**
+     * Sparse fieldset representation: requested fields only, keyed by JSON name
+     */
+    private Map<String, Object> toFieldsResponse(ProductFieldsRow row, Set<ProductField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ProductField field : fields) {
+            Object value = row.values().get(field);
+            values.put(field.getJsonName(), field == ProductField.IMAGES
+                ? ProductResponse.parseImages((String) value)
+                : value);
+        }
+        return values;
+    }
+
+    private ProductSummaryResponse toSummaryResponse(ProductSummaryRow row) {
+        return new ProductSummaryResponse(
+            row.id(),
+            row.name(),
+            row.sku(),
+            row.price(),
+            row.currency(),
+            row.categoryId(),
+            row.image(),
+            row.status()
+        );
+    }
 }
 
@@ -0,0 +1,63 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.model.event.FieldChange;
+import com.ecom.catalog.model.request.CatalogJobType;
+import com.ecom.catalog.model.request.ProductField;
+import com.ecom.catalog.outbox.CatalogOutbox;
+import com.ecom.catalog.repository.ProductBulkRepository;
+import com.ecom.catalog.repository.projection.ProductVersionRow;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * RECATEGORIZE jobs: move all products of one category to another
+ */
+@Component
+class RecategorizeJobHandler extends ProductBatchJobHandler {
+
+    /**
+     * Job parameters
+     *
+     * @param sellerId Only this seller's products (null for ADMIN: all products)
+     */
+    record Parameters(UUID fromCategoryId, UUID toCategoryId, UUID sellerId) {
+    }
+
+    RecategorizeJobHandler(
+            ProductBulkRepository productBulkRepository,
+            CatalogOutbox outbox,
+            ApplicationEventPublisher eventPublisher) {
+        super(productBulkRepository, outbox, eventPublisher);
+    }
+
+    @Override
+    public CatalogJobType type() {
+        return CatalogJobType.RECATEGORIZE;
+    }
+
+    @Override
+    protected Scope scope(CatalogJobExecution execution) {
+        Parameters parameters = execution.parameters(Parameters.class);
+        return new Scope(execution.job().getTenantId(), parameters.fromCategoryId(), parameters.sellerId());
+    }
+
+    @Override
+    protected int update(CatalogJobExecution execution, List<UUID> productIds) {
+        Parameters parameters = execution.parameters(Parameters.class);
+        List<ProductVersionRow> moved = productBulkRepository.moveToCategory(
+            productIds, parameters.fromCategoryId(), parameters.toCategoryId());
+
+        UUID tenantId = execution.job().getTenantId();
+        Map<String, FieldChange> changes = Map.of(ProductField.CATEGORY_ID.getJsonName(),
+            new FieldChange(parameters.fromCategoryId(), parameters.toCategoryId()));
+        outbox.enqueueAll(moved.stream()
+            .flatMap(row -> ProductEvents.updated(
+                row.id(), tenantId, row.sellerId(), row.version(), null, changes).stream())
+            .toList());
+        return moved.size();
+    }
+}
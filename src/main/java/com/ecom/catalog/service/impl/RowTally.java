@@ -0,0 +1,39 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.model.response.ProductImportResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Running row counts of a bulk operation (imports and catalog jobs)
+ */
+final class RowTally {
+
+    long received;
+    long created;
+    long updated;
+    long skipped;
+    long rejected;
+    final List<ProductImportResponse.RowError> errors;
+    private final int maxErrors;
+
+    RowTally(int maxErrors) {
+        this(maxErrors, new ArrayList<>());
+    }
+
+    RowTally(int maxErrors, List<ProductImportResponse.RowError> errors) {
+        this.maxErrors = maxErrors;
+        this.errors = new ArrayList<>(errors);
+    }
+
+    /**
+     * Count a rejected row; only the first maxErrors are kept with details
+     */
+    void reject(long line, String sku, String message) {
+        rejected++;
+        if (errors.size() < maxErrors) {
+            errors.add(new ProductImportResponse.RowError(line, sku, message));
+        }
+    }
+}
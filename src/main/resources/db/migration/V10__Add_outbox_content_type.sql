@@ -0,0 +1,7 @@
+-- Binary event payloads: the outbox stores encoded bytes plus their content type
+-- Rows keep the encoding they were written with, so switching catalog.events.encoding
+-- never re-encodes events already waiting in the outbox.
+-- Existing JSON payloads are converted in place (the table only holds recent rows).
+ALTER TABLE catalog_outbox ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
+ALTER TABLE catalog_outbox ADD COLUMN IF NOT EXISTS content_type VARCHAR(100) NOT NULL DEFAULT 'application/json'; -- content-type header
+ALTER TABLE catalog_outbox ADD COLUMN IF NOT EXISTS schema_id VARCHAR(32); -- schema-id header (Avro payloads only)
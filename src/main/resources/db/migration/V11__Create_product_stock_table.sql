@@ -0,0 +1,24 @@
+-- Create product_stock table (local read model of inventory stock levels)
+-- Maintained from inventory stock events so that searches can filter on availability
+-- without calling the inventory service. Only the in-stock flag is kept; products the
+-- inventory service never reported count as out of stock. No foreign key to products:
+-- stock events may refer to products this service has not seen (yet).
+CREATE TABLE IF NOT EXISTS product_stock (
+    product_id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    in_stock BOOLEAN NOT NULL,
+    event_time TIMESTAMP NOT NULL, -- Source time of the applied event; older events are ignored
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes
+-- Partial index over the in-stock set of each tenant (the rows an inStock=true search joins)
+CREATE INDEX IF NOT EXISTS idx_product_stock_in_stock ON product_stock(tenant_id, product_id)
+    WHERE in_stock;
+
+-- Create trigger for updated_at
+DROP TRIGGER IF EXISTS update_product_stock_updated_at ON product_stock;
+CREATE TRIGGER update_product_stock_updated_at
+    BEFORE UPDATE ON product_stock
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
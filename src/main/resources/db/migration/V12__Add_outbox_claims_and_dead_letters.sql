@@ -0,0 +1,25 @@
+-- Outbox relay claims, retry back-off and dead letters
+-- The relay claims rows with a lease (not_before) in a short transaction and sends them
+-- outside of it; a failed row gets a back-off in not_before, and a row that keeps
+-- failing is dead-lettered instead of being retried forever.
+-- Indexes are built CONCURRENTLY because outbox rows are written by every product and
+-- category change; this script therefore runs outside a transaction (see the .sql.conf
+-- file next to it).
+ALTER TABLE catalog_outbox ADD COLUMN IF NOT EXISTS not_before TIMESTAMP; -- Not claimable before (send lease or retry back-off)
+ALTER TABLE catalog_outbox ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP; -- Gave up after max attempts; never sent again
+
+-- Create indexes
+-- The relay reads pending (not published, not dead-lettered) rows in id order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_catalog_outbox_pending ON catalog_outbox(id)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+-- Earlier pending events of the same key (per-key ordering check of a claim)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_catalog_outbox_pending_key ON catalog_outbox(topic, message_key, id)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+-- Dead letters, for the backlog metrics and manual replay
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_catalog_outbox_dead_lettered ON catalog_outbox(dead_lettered_at)
+    WHERE dead_lettered_at IS NOT NULL;
+
+-- Replaced by idx_catalog_outbox_pending
+DROP INDEX CONCURRENTLY IF EXISTS idx_catalog_outbox_unpublished;
@@ -0,0 +1,55 @@
+-- Full-text search over product name and description
+-- Name matches rank above description matches (weights A and B)
+--
+-- A STORED generated column would rewrite the whole products table under an ACCESS
+-- EXCLUSIVE lock. Instead the column is added empty (a catalog-only change), kept up to
+-- date by a trigger, backfilled in committed batches and indexed CONCURRENTLY, so
+-- product reads and writes continue during the migration. This script therefore runs
+-- outside a transaction (see the .sql.conf file next to it).
+-- Note: the backfill updates every existing row once, which also advances its updated_at.
+
+CREATE OR REPLACE FUNCTION products_search_vector(name TEXT, description TEXT)
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+           setweight(to_tsvector('english', coalesce(description, '')), 'B');
+$$ LANGUAGE sql IMMUTABLE;
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+-- Maintained on insert and whenever name or description change (or the row was not backfilled yet)
+CREATE OR REPLACE FUNCTION update_products_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT'
+        OR NEW.search_vector IS NULL
+        OR NEW.name IS DISTINCT FROM OLD.name
+        OR NEW.description IS DISTINCT FROM OLD.description THEN
+        NEW.search_vector := products_search_vector(NEW.name, NEW.description);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS update_products_search_vector ON products;
+CREATE TRIGGER update_products_search_vector
+    BEFORE INSERT OR UPDATE ON products
+    FOR EACH ROW
+    EXECUTE FUNCTION update_products_search_vector();
+
+-- Backfill existing rows, committing every batch so row locks are held briefly
+DO $$
+DECLARE
+    batch_rows INTEGER;
+BEGIN
+    LOOP
+        UPDATE products
+        SET search_vector = products_search_vector(name, description)
+        WHERE id IN (SELECT id FROM products WHERE search_vector IS NULL LIMIT 5000);
+        GET DIAGNOSTICS batch_rows = ROW_COUNT;
+        EXIT WHEN batch_rows = 0;
+        COMMIT;
+    END LOOP;
+END $$;
+
+-- Create indexes
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_search_vector ON products USING GIN (search_vector);
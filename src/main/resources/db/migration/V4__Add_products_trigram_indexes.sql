@@ -0,0 +1,9 @@
+-- Trigram indexes for substring and typo-tolerant name/SKU search
+-- Built CONCURRENTLY so product writes are not blocked; this script therefore runs
+-- outside a transaction (see the .sql.conf file next to it).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Create indexes
+-- gin_trgm_ops serves similarity (%), ILIKE '%...%' and regex predicates
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_name_trgm ON products USING GIN (name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_sku_trgm ON products USING GIN (sku gin_trgm_ops);
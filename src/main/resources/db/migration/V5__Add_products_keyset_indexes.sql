@@ -0,0 +1,14 @@
+-- Composite indexes for keyset (cursor) pagination of live products
+-- Each matches a ProductSort order so seeks and ordering are served by the index
+-- Built CONCURRENTLY so product writes are not blocked; this script therefore runs
+-- outside a transaction (see the .sql.conf file next to it).
+
+-- Create indexes
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_tenant_created_id
+    ON products(tenant_id, created_at DESC, id DESC)
+    WHERE deleted = false;
+
+-- Scanned forwards for PRICE_ASC and backwards for PRICE_DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_tenant_price_id
+    ON products(tenant_id, price, id)
+    WHERE deleted = false;
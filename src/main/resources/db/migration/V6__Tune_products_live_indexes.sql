@@ -0,0 +1,27 @@
+-- Partial indexes for the live-product access paths
+-- Every hot query filters on deleted = false, so the indexes cover live rows only.
+-- Built and dropped CONCURRENTLY so writes are not blocked; this script therefore runs
+-- outside a transaction (see the .sql.conf file next to it).
+
+-- Create indexes
+-- Tenant-scoped search/listing by category with optional price range, category counts
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_tenant_category_price
+    ON products(tenant_id, category_id, price)
+    WHERE deleted = false;
+
+-- Seller product listings
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_seller_tenant_live
+    ON products(seller_id, tenant_id)
+    WHERE deleted = false;
+
+-- Drop redundant indexes
+-- Low selectivity; replaced by the deleted = false predicate of the partial indexes
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_deleted;
+
+-- Duplicates the index backing the uk_products_sku_tenant unique constraint
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_sku_tenant;
+
+-- Replaced by idx_products_seller_tenant_live
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_seller_tenant;
+
+-- idx_products_category is kept: it serves the ON DELETE SET NULL foreign key action
@@ -0,0 +1,38 @@
+-- Create catalog_jobs table (asynchronous bulk jobs: imports, price adjustments, recategorization)
+CREATE TABLE IF NOT EXISTS catalog_jobs (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    tenant_id UUID NOT NULL,
+    created_by UUID NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL DEFAULT 'QUEUED', -- QUEUED, RUNNING, SUCCEEDED, FAILED
+    parameters TEXT NOT NULL, -- JSON, type-specific
+    payload BYTEA, -- Uploaded input (imports); cleared when the job finishes
+    checkpoint TEXT, -- Type-specific resume position, written with the counters after each chunk
+    total_rows BIGINT,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    created_rows BIGINT NOT NULL DEFAULT 0,
+    updated_rows BIGINT NOT NULL DEFAULT 0,
+    skipped_rows BIGINT NOT NULL DEFAULT 0,
+    rejected_rows BIGINT NOT NULL DEFAULT 0,
+    errors TEXT, -- JSON array of the first rejected rows
+    error_message TEXT,
+    owner VARCHAR(255), -- Instance holding the lease while RUNNING
+    heartbeat_at TIMESTAMP, -- Lease renewal; stale RUNNING jobs are taken over
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes
+-- Claim queries only look at unfinished jobs, which stay a small part of the table
+CREATE INDEX IF NOT EXISTS idx_catalog_jobs_unfinished ON catalog_jobs(status, created_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
+CREATE INDEX IF NOT EXISTS idx_catalog_jobs_tenant_created ON catalog_jobs(tenant_id, created_at DESC);
+
+-- Create trigger for updated_at
+DROP TRIGGER IF EXISTS update_catalog_jobs_updated_at ON catalog_jobs;
+CREATE TRIGGER update_catalog_jobs_updated_at
+    BEFORE UPDATE ON catalog_jobs
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,23 @@
+-- Create catalog_outbox table (transactional outbox for Kafka events)
+-- Rows are written in the same transaction as the change they describe and published
+-- by the outbox relay; published rows are purged after a retention period.
+CREATE TABLE IF NOT EXISTS catalog_outbox (
+    id BIGSERIAL PRIMARY KEY, -- Publication order
+    event_id UUID NOT NULL DEFAULT gen_random_uuid(), -- Sent as a header so consumers can deduplicate redeliveries
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255) NOT NULL,
+    type_id VARCHAR(255) NOT NULL, -- Event class, sent as the __TypeId__ header like JsonSerializer does
+    payload TEXT NOT NULL, -- JSON
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    CONSTRAINT uk_catalog_outbox_event UNIQUE (event_id)
+);
+
+-- Create indexes
+-- The relay only reads unpublished rows, in id order
+CREATE INDEX IF NOT EXISTS idx_catalog_outbox_unpublished ON catalog_outbox(id)
+    WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_catalog_outbox_published_at ON catalog_outbox(published_at)
+    WHERE published_at IS NOT NULL;
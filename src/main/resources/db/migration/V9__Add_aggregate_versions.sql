@@ -0,0 +1,29 @@
+-- Per-aggregate versions for lifecycle events (product-events, category-events)
+-- Every UPDATE of a row bumps its version, whichever code path issues it (JPA, bulk
+-- imports, catalog jobs), so events of one product or category carry strictly
+-- increasing versions. Consumers drop events older than the version they already hold.
+-- A constant default makes ADD COLUMN a catalog-only change (no table rewrite).
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 1;
+
+-- Create version trigger function
+CREATE OR REPLACE FUNCTION increment_version_column()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.version = OLD.version + 1;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+-- Create triggers for version
+DROP TRIGGER IF EXISTS increment_products_version ON products;
+CREATE TRIGGER increment_products_version
+    BEFORE UPDATE ON products
+    FOR EACH ROW
+    EXECUTE FUNCTION increment_version_column();
+
+DROP TRIGGER IF EXISTS increment_categories_version ON categories;
+CREATE TRIGGER increment_categories_version
+    BEFORE UPDATE ON categories
+    FOR EACH ROW
+    EXECUTE FUNCTION increment_version_column();
@@ -0,0 +1,114 @@
+package com.ecom.catalog.inventory;
+
+import com.ecom.catalog.PostgresTestSupport;
+import com.ecom.catalog.entity.Product;
+import com.ecom.catalog.model.event.StockLevelChangedEvent;
+import com.ecom.catalog.model.request.ProductCountMode;
+import com.ecom.catalog.model.request.ProductSearchCriteria;
+import com.ecom.catalog.model.request.ProductSearchMode;
+import com.ecom.catalog.repository.ProductRepository;
+import com.ecom.catalog.repository.ProductStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stock events applied from an in-memory list, checked through inStock searches
+ */
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductStockRepository.class, StockLevelHandler.class})
+class StockLevelHandlerTest extends PostgresTestSupport {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private StockLevelHandler handler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID tenantId;
+    private UUID lamp;
+    private UUID chair;
+    private UUID desk;
+
+    @BeforeEach
+    void seed() {
+        tenantId = UUID.randomUUID();
+        lamp = insertProduct("Lamp");
+        chair = insertProduct("Chair");
+        desk = insertProduct("Desk"); // Never reported by inventory
+    }
+
+    @Test
+    void searchFiltersOnAppliedStockLevels() {
+        handler.apply(List.of(
+            event(lamp, 5, T0),
+            event(chair, 0, T0)));
+
+        assertThat(search(true)).containsExactlyInAnyOrder(lamp);
+        assertThat(search(false)).containsExactlyInAnyOrder(chair, desk);
+    }
+
+    @Test
+    void olderEventDoesNotOverwriteNewerState() {
+        handler.apply(List.of(event(lamp, 5, T0.plusMinutes(10))));
+
+        // Redelivered or reordered: an out-of-stock state from before the applied one
+        handler.apply(List.of(event(lamp, 0, T0)));
+
+        assertThat(search(true)).containsExactly(lamp);
+    }
+
+    @Test
+    void latestEventOfABatchWinsWhateverItsPosition() {
+        handler.apply(List.of(
+            event(chair, 3, T0.plusMinutes(5)),
+            event(chair, 0, T0)));
+
+        assertThat(search(true)).containsExactly(chair);
+    }
+
+    @Test
+    void newerEventReplacesState() {
+        handler.apply(List.of(event(lamp, 5, T0)));
+        handler.apply(List.of(event(lamp, 0, T0.plusMinutes(1))));
+
+        assertThat(search(true)).isEmpty();
+        assertThat(search(false)).containsExactlyInAnyOrder(lamp, chair, desk);
+    }
+
+    private UUID insertProduct(String name) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO products (name, sku, price, currency, seller_id, tenant_id, status) " +
+            "VALUES (?, ?, 10.00, 'USD', ?, ?, 'ACTIVE') RETURNING id",
+            UUID.class, name, name.toUpperCase() + "-1", UUID.randomUUID(), tenantId);
+    }
+
+    private StockLevelChangedEvent event(UUID productId, long availableQuantity, LocalDateTime timestamp) {
+        return new StockLevelChangedEvent("StockLevelChanged", productId, tenantId, availableQuantity, timestamp);
+    }
+
+    private List<UUID> search(boolean inStock) {
+        ProductSearchCriteria criteria = ProductSearchCriteria.of(
+            tenantId, null, ProductSearchMode.LIKE, null, null, null, inStock, null, null,
+            ProductCountMode.NONE, null, null, null, 0, 20);
+        return productRepository.search(criteria, ProductSearchMode.LIKE, 0, 20).stream()
+            .map(Product::getId)
+            .toList();
+    }
+}
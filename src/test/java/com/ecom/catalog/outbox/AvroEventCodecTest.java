@@ -0,0 +1,154 @@
+package com.ecom.catalog.outbox;
+
+import com.ecom.catalog.model.event.CategoryCreatedEvent;
+import com.ecom.catalog.model.event.CategoryDeletedEvent;
+import com.ecom.catalog.model.event.CategoryUpdatedEvent;
+import com.ecom.catalog.model.event.FieldChange;
+import com.ecom.catalog.model.event.ProductCreatedEvent;
+import com.ecom.catalog.model.event.ProductDeletedEvent;
+import com.ecom.catalog.model.event.ProductPriceChangedEvent;
+import com.ecom.catalog.model.event.ProductUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round trips of catalog events through the registered Avro schemas
+ *
+ * <p>Each event is encoded with the latest schema of its class, as the outbox does, and
+ * decoded by the schema ID it would carry in the {@code schema-id} header.
+ */
+class AvroEventCodecTest {
+
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+    private static final UUID CATEGORY_ID = UUID.randomUUID();
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final UUID SELLER_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final EventSchemaRegistry schemaRegistry = new EventSchemaRegistry();
+    private final AvroEventCodec codec = new AvroEventCodec(schemaRegistry, objectMapper);
+
+    @Test
+    void productCreatedRoundTrips() {
+        ProductCreatedEvent event = ProductCreatedEvent.of(PRODUCT_ID, "LAMP-1", TENANT_ID, SELLER_ID, 1L);
+
+        GenericRecord record = roundTrip(event);
+
+        assertThat(record.get("event_type")).hasToString("ProductCreated");
+        assertThat(uuid(record.get("product_id"))).isEqualTo(PRODUCT_ID);
+        assertThat(record.get("sku")).hasToString("LAMP-1");
+        assertThat(uuid(record.get("tenant_id"))).isEqualTo(TENANT_ID);
+        assertThat(uuid(record.get("seller_id"))).isEqualTo(SELLER_ID);
+        assertThat(record.get("version")).isEqualTo(1L);
+        assertThat(record.get("timestamp")).isEqualTo(micros(event.timestamp()));
+    }
+
+    @Test
+    void productUpdatedRoundTripsChangeSetAsJson() {
+        Map<String, FieldChange> changes = new LinkedHashMap<>();
+        changes.put("name", new FieldChange("Desk lamp", "Desk lamp XL"));
+        changes.put("images", new FieldChange(null, List.of("https://cdn.example.com/lamp.jpg")));
+        ProductUpdatedEvent event = ProductUpdatedEvent.of(PRODUCT_ID, TENANT_ID, SELLER_ID, 7L, changes);
+
+        GenericRecord record = roundTrip(event);
+
+        Map<String, GenericRecord> decoded = new LinkedHashMap<>();
+        ((Map<?, ?>) record.get("changes")).forEach((key, value) -> decoded.put(key.toString(), (GenericRecord) value));
+        assertThat(decoded).containsOnlyKeys("name", "images");
+        assertThat(decoded.get("name").get("old")).hasToString("\"Desk lamp\"");
+        assertThat(decoded.get("name").get("new")).hasToString("\"Desk lamp XL\"");
+        assertThat(decoded.get("images").get("old")).isNull();
+        assertThat(decoded.get("images").get("new")).hasToString("[\"https://cdn.example.com/lamp.jpg\"]");
+        assertThat(record.get("version")).isEqualTo(7L);
+    }
+
+    @Test
+    void productPriceChangedRoundTripsDecimals() {
+        ProductPriceChangedEvent event = ProductPriceChangedEvent.of(
+            PRODUCT_ID, TENANT_ID, SELLER_ID, 3L, new BigDecimal("19.99"), new BigDecimal("24.5"), "EUR");
+
+        GenericRecord record = roundTrip(event);
+
+        assertThat(decimal(record.get("old_price"))).isEqualByComparingTo("19.99");
+        assertThat(decimal(record.get("new_price"))).isEqualTo(new BigDecimal("24.50"));
+        assertThat(record.get("currency")).hasToString("EUR");
+    }
+
+    @Test
+    void productPriceChangedRoundTripsMissingOldPrice() {
+        ProductPriceChangedEvent event = ProductPriceChangedEvent.of(
+            PRODUCT_ID, TENANT_ID, SELLER_ID, 1L, null, new BigDecimal("5.00"), null);
+
+        GenericRecord record = roundTrip(event);
+
+        assertThat(record.get("old_price")).isNull();
+        assertThat(record.get("currency")).isNull();
+    }
+
+    @Test
+    void productDeletedRoundTrips() {
+        GenericRecord record = roundTrip(ProductDeletedEvent.of(PRODUCT_ID, "LAMP-1", TENANT_ID, SELLER_ID, 9L));
+
+        assertThat(uuid(record.get("product_id"))).isEqualTo(PRODUCT_ID);
+        assertThat(record.get("version")).isEqualTo(9L);
+    }
+
+    @Test
+    void categoryEventsRoundTrip() {
+        GenericRecord created = roundTrip(CategoryCreatedEvent.of(CATEGORY_ID, TENANT_ID, "Lighting", null, null, 1L));
+        GenericRecord updated = roundTrip(CategoryUpdatedEvent.of(
+            CATEGORY_ID, TENANT_ID, 2L, Map.of("parent_id", new FieldChange(null, UUID.randomUUID()))));
+        GenericRecord deleted = roundTrip(CategoryDeletedEvent.of(CATEGORY_ID, TENANT_ID, 3L));
+
+        assertThat(uuid(created.get("category_id"))).isEqualTo(CATEGORY_ID);
+        assertThat(created.get("name")).hasToString("Lighting");
+        assertThat(created.get("description")).isNull();
+        assertThat(created.get("parent_id")).isNull();
+        assertThat(((Map<?, ?>) updated.get("changes"))).hasSize(1);
+        assertThat(updated.get("version")).isEqualTo(2L);
+        assertThat(deleted.get("version")).isEqualTo(3L);
+    }
+
+    @Test
+    void decodeRejectsUnknownSchemaId() {
+        assertThatThrownBy(() -> codec.decode(new byte[0], "0000000000000000"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private GenericRecord roundTrip(Object event) {
+        EventSchemaRegistry.RegisteredSchema schema = schemaRegistry.latest(event.getClass()).orElseThrow();
+        return codec.decode(codec.encode(event, schema.schema()), schema.id());
+    }
+
+    private static UUID uuid(Object fixed) {
+        ByteBuffer bytes = ByteBuffer.wrap(((GenericData.Fixed) fixed).bytes());
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    private static BigDecimal decimal(Object bytes) {
+        ByteBuffer buffer = ((ByteBuffer) bytes).duplicate();
+        byte[] unscaled = new byte[buffer.remaining()];
+        buffer.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), 2);
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,210 @@
+package com.ecom.catalog.outbox;
+
+import com.ecom.catalog.PostgresTestSupport;
+import com.ecom.catalog.repository.CatalogOutboxRepository;
+import com.ecom.catalog.repository.projection.OutboxMessageRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-key ordering, retry back-off and dead-lettering of the outbox relay
+ */
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CatalogOutboxRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayOrderingTest extends PostgresTestSupport {
+
+    private static final String TOPIC = "catalog.product.events";
+
+    @Autowired
+    private CatalogOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final StandInProducer producer = new StandInProducer();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM catalog_outbox");
+    }
+
+    @Test
+    void failedEventHoldsBackLaterEventsOfItsKey() {
+        OutboxRelay relay = relay(20, Duration.ofMinutes(1));
+        enqueue("a", "k1");
+        enqueue("b", "k1");
+        enqueue("c", "k2");
+        producer.failingKeys.add("k1");
+
+        relay.relay();
+        relay.relay();
+
+        // a failed and backs off; b must not overtake it
+        assertThat(sentEvents()).containsExactly("c");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT attempts FROM catalog_outbox WHERE type_id = 'a'", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT attempts FROM catalog_outbox WHERE type_id = 'b'", Integer.class)).isZero();
+
+        producer.failingKeys.clear();
+        jdbcTemplate.update("UPDATE catalog_outbox SET not_before = now() - interval '1 second' WHERE type_id = 'a'");
+        relay.relay();
+
+        assertThat(sentEvents()).containsExactly("c", "a", "b");
+    }
+
+    @Test
+    void sendFailingBeforeItReturnsEndsTheBatch() {
+        OutboxRelay relay = relay(20, Duration.ofMinutes(1));
+        enqueue("a", "k1");
+        enqueue("c", "k2");
+        producer.failingKeys.add("k1");
+
+        relay.relay();
+
+        // c is not sent after the failure and goes back unclaimed, without an attempt
+        assertThat(sentEvents()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT attempts = 0 AND not_before IS NULL FROM catalog_outbox WHERE type_id = 'c'", Boolean.class)).isTrue();
+
+        relay.relay();
+
+        assertThat(sentEvents()).containsExactly("c");
+    }
+
+    @Test
+    void eventIsDeadLetteredAfterMaxAttempts() throws InterruptedException {
+        OutboxRelay relay = relay(2, Duration.ofMillis(1));
+        enqueue("a", "k1");
+        enqueue("b", "k1");
+        producer.failingKeys.add("k1");
+
+        relay.relay();
+        Thread.sleep(50); // back-off
+        relay.relay();
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT dead_lettered_at IS NOT NULL FROM catalog_outbox WHERE type_id = 'a'", Boolean.class)).isTrue();
+
+        producer.failingKeys.clear();
+        relay.relay();
+        relay.relay();
+
+        // The dead letter no longer holds its key back, and is never sent again
+        assertThat(sentEvents()).containsExactly("b");
+    }
+
+    @Test
+    void claimSkipsKeysWithAnEventLeasedByAnotherRelay() {
+        enqueue("a", "k1");
+        enqueue("b", "k1");
+        enqueue("c", "k2");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<OutboxMessageRow> first = transactionTemplate.execute(
+            status -> outboxRepository.claim(1, Duration.ofMinutes(1)));
+        List<OutboxMessageRow> second = transactionTemplate.execute(
+            status -> outboxRepository.claim(10, Duration.ofMinutes(1)));
+
+        assertThat(first).extracting(OutboxMessageRow::typeId).containsExactly("a");
+        assertThat(second).extracting(OutboxMessageRow::typeId).containsExactly("c");
+    }
+
+    private OutboxRelay relay(int maxAttempts, Duration retryBackoff) {
+        return new OutboxRelay(
+            outboxRepository,
+            new KafkaTemplate<>(new MockProducerFactory<>(() -> producer)),
+            transactionManager,
+            new SimpleMeterRegistry(),
+            true,
+            500,
+            20,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            Duration.ofMinutes(1),
+            maxAttempts,
+            retryBackoff,
+            Duration.ofMinutes(5),
+            Duration.ofDays(1));
+    }
+
+    /**
+     * Store an event; its name goes in type_id so sent records can be told apart
+     */
+    private void enqueue(String name, String key) {
+        outboxRepository.append(List.of(new OutboxMessageRow(
+            null, UUID.randomUUID(), TOPIC, key, name,
+            "{}".getBytes(StandardCharsets.UTF_8), EventEncoding.JSON.getContentType(), null, null)));
+    }
+
+    private List<String> sentEvents() {
+        return producer.history().stream()
+            .map(record -> new String(record.headers().lastHeader("__TypeId__").value(), StandardCharsets.UTF_8))
+            .toList();
+    }
+
+    /**
+     * Auto-acknowledging producer that rejects records of {@code failingKeys} before send
+     * returns (like a producer without metadata) and survives
+     * KafkaTemplate closing it after each send
+     */
+    private static class StandInProducer extends MockProducer<String, byte[]> {
+
+        final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+
+        StandInProducer() {
+            super(true, null, new StringSerializer(), new ByteArraySerializer());
+        }
+
+        @Override
+        public Future<RecordMetadata> send(ProducerRecord<String, byte[]> record, Callback callback) {
+            if (failingKeys.contains(record.key())) {
+                KafkaException error = new KafkaException("Broker stand-in rejected key " + record.key());
+                if (callback != null) {
+                    callback.onCompletion(null, error);
+                }
+                return CompletableFuture.failedFuture(error);
+            }
+            return super.send(record, callback);
+        }
+
+        @Override
+        public void close(Duration timeout) {
+        }
+    }
+}
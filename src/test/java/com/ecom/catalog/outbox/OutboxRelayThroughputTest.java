@@ -0,0 +1,218 @@
+package com.ecom.catalog.outbox;
+
+import com.ecom.catalog.PostgresTestSupport;
+import com.ecom.catalog.config.KafkaConfig;
+import com.ecom.catalog.repository.CatalogOutboxRepository;
+import com.ecom.catalog.repository.projection.OutboxMessageRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput comparison of the producer profiles for the outbox relay
+ *
+ * <p>Relays 20,000 stored events through the real relay to an in-process broker
+ * ({@link EmbeddedKafka}) once with the {@code reliable} and once with the
+ * {@code throughput} producer settings of {@link KafkaConfig}, so linger, batch size,
+ * compression and requests in flight all take effect. Logs both records/sec figures
+ * side by side for events spread over many keys and for bursts of events per key, and
+ * checks that the broker received every event once and in order within its key.
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CatalogOutboxRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EmbeddedKafka(partitions = 6)
+class OutboxRelayThroughputTest extends PostgresTestSupport {
+
+    private static final int EVENTS = 20_000;
+    private static final int BATCH_SIZE = 500;
+    private static final byte[] PAYLOAD = ("{\"productId\":\"" + UUID.randomUUID() + "\",\"name\":\""
+        + "x".repeat(400) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private CatalogOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM catalog_outbox");
+    }
+
+    @Test
+    void comparesProfilesForEventsOfManyKeys() {
+        // Consecutive events have different keys: one send round per batch
+        compare("2,000 keys, interleaved", index -> "product-" + index % 2_000);
+    }
+
+    @Test
+    void comparesProfilesForBurstsOfEventsPerKey() {
+        // 10 consecutive events per key: each batch is sent in 10 rounds
+        compare("2,000 keys, bursts of 10", index -> "product-" + index / 10);
+    }
+
+    private void compare(String scenario, IntFunction<String> key) {
+        long reliable = measure("reliable", key);
+        long throughput = measure("throughput", key);
+
+        log.info("Outbox relay, {}: reliable {} records/sec, throughput {} records/sec",
+            scenario, reliable, throughput);
+    }
+
+    /**
+     * Relay {@link #EVENTS} events to a fresh topic with the given producer profile
+     *
+     * @return records/sec
+     */
+    private long measure(String profile, IntFunction<String> key) {
+        String topic = "outbox-throughput-" + profile + "-" + UUID.randomUUID();
+        broker.addTopics(topic);
+        enqueue(topic, key);
+
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = producerFactory(profile);
+        try {
+            OutboxRelay relay = relay(new KafkaTemplate<>(producerFactory));
+            long startNanos = System.nanoTime();
+            relay.relay();
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM catalog_outbox WHERE topic = ? AND published_at IS NULL",
+                Long.class, topic)).isZero();
+            assertKeyOrder(topic, consumeAll(topic));
+            return EVENTS * 1_000_000_000L / elapsedNanos;
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    /**
+     * Producer factory built by {@link KafkaConfig} with the application.yml defaults
+     */
+    @SuppressWarnings("unchecked")
+    private DefaultKafkaProducerFactory<String, byte[]> producerFactory(String profile) {
+        KafkaConfig config = new KafkaConfig();
+        ReflectionTestUtils.setField(config, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(config, "profile", profile);
+        ReflectionTestUtils.setField(config, "linger", Duration.ofMillis(20));
+        ReflectionTestUtils.setField(config, "maxBlock", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(config, "batchSize", 131_072);
+        ReflectionTestUtils.setField(config, "compression", "lz4");
+        ReflectionTestUtils.setField(config, "deliveryTimeout", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "requestTimeout", Duration.ofSeconds(10));
+        return (DefaultKafkaProducerFactory<String, byte[]>) config.producerFactory(new SimpleMeterRegistry());
+    }
+
+    private OutboxRelay relay(KafkaTemplate<String, byte[]> kafkaTemplate) {
+        return new OutboxRelay(
+            outboxRepository,
+            kafkaTemplate,
+            transactionManager,
+            new SimpleMeterRegistry(),
+            true,
+            BATCH_SIZE,
+            Integer.MAX_VALUE,
+            Duration.ofSeconds(35),
+            Duration.ofSeconds(5),
+            Duration.ofMinutes(2),
+            20,
+            Duration.ofSeconds(1),
+            Duration.ofMinutes(5),
+            Duration.ofDays(1));
+    }
+
+    private void enqueue(String topic, IntFunction<String> key) {
+        List<OutboxMessageRow> rows = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            rows.add(new OutboxMessageRow(
+                null, UUID.randomUUID(), topic, key.apply(i), "ProductUpdatedEvent",
+                PAYLOAD, EventEncoding.JSON.getContentType(), null, null));
+        }
+        for (int from = 0; from < EVENTS; from += 1_000) {
+            outboxRepository.append(rows.subList(from, Math.min(EVENTS, from + 1_000)));
+        }
+    }
+
+    /**
+     * Read the topic from the beginning until all {@link #EVENTS} records arrived
+     */
+    private List<ConsumerRecord<String, byte[]>> consumeAll(String topic) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, topic);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 5_000);
+
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>(EVENTS);
+        try (Consumer<String, byte[]> consumer =
+                 new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer())) {
+            consumer.subscribe(List.of(topic));
+            long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+            while (records.size() < EVENTS && System.nanoTime() < deadline) {
+                consumer.poll(Duration.ofMillis(500)).forEach(records::add);
+            }
+        }
+        assertThat(records).hasSize(EVENTS);
+        return records;
+    }
+
+    /**
+     * Records of each key arrived in outbox (id) order; a key maps to one partition, so
+     * per-partition consumption order is the broker's append order
+     */
+    private void assertKeyOrder(String topic, List<ConsumerRecord<String, byte[]>> records) {
+        Map<String, Long> idsByEvent = new HashMap<>();
+        jdbcTemplate.query("SELECT id, event_id FROM catalog_outbox WHERE topic = ?",
+            rs -> { idsByEvent.put(rs.getString("event_id"), rs.getLong("id")); }, topic);
+        Map<String, Long> lastIdByKey = new HashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            String eventId = new String(
+                record.headers().lastHeader(OutboxRelay.EVENT_ID_HEADER).value(), StandardCharsets.UTF_8);
+            long id = idsByEvent.get(eventId);
+            Long previous = lastIdByKey.put(record.key(), id);
+            assertThat(previous == null || previous < id)
+                .as("events of key %s out of order", record.key())
+                .isTrue();
+        }
+    }
+}
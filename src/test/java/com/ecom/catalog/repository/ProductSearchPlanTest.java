@@ -0,0 +1,174 @@
+package com.ecom.catalog.repository;
+
+import com.ecom.catalog.PostgresTestSupport;
+import com.ecom.catalog.model.request.ProductCountMode;
+import com.ecom.catalog.model.request.ProductSearchCriteria;
+import com.ecom.catalog.model.request.ProductSearchMode;
+import com.ecom.catalog.model.request.ProductSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan regression test for product search statements
+ *
+ * <p>Runs EXPLAIN on the statements the search repository builds (same SQL, same bound
+ * values) against a seeded, analyzed catalog of 40 tenants with 500 products each, and
+ * checks that each main filter combination is served by its index - including the
+ * live-row partial indexes - instead of a sequential scan.
+ */
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductSearchPlanTest extends PostgresTestSupport {
+
+    private static final String SEED_CATEGORIES =
+        "INSERT INTO categories (id, name, tenant_id) " +
+        "SELECT CAST(md5('plan-category-' || t || '-' || c) AS uuid), 'Category ' || c, " +
+        "CAST(md5('plan-tenant-' || t) AS uuid) " +
+        "FROM generate_series(1, 40) t, generate_series(0, 9) c";
+
+    /**
+     * 2 of every 500 products per tenant are named "Zephyrine lamp" (a rare search term);
+     * every 50th product is deleted
+     */
+    private static final String SEED_PRODUCTS =
+        "INSERT INTO products (name, sku, description, price, currency, category_id, seller_id, tenant_id, " +
+        "status, deleted, created_at, updated_at) " +
+        "SELECT CASE WHEN i % 250 = 0 THEN 'Zephyrine lamp ' || i ELSE 'Product ' || i || ' widget' END, " +
+        "'SKU-' || t || '-' || i, 'Sturdy everyday item number ' || i, (i % 1000) + 0.99, 'USD', " +
+        "CAST(md5('plan-category-' || t || '-' || (i % 10)) AS uuid), CAST(md5('plan-seller-' || (i % 20)) AS uuid), " +
+        "CAST(md5('plan-tenant-' || t) AS uuid), 'ACTIVE', i % 50 = 0, " +
+        "now() - make_interval(mins => i), now() " +
+        "FROM generate_series(1, 40) t, generate_series(1, 500) i";
+
+    private static boolean seeded = false;
+
+    @Autowired
+    private ProductSearchRepositoryImpl searchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID tenantId;
+    private UUID categoryId;
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            jdbcTemplate.execute(SEED_CATEGORIES);
+            jdbcTemplate.execute(SEED_PRODUCTS);
+            jdbcTemplate.execute("ANALYZE categories");
+            jdbcTemplate.execute("ANALYZE products");
+            seeded = true;
+        }
+        tenantId = jdbcTemplate.queryForObject("SELECT CAST(md5('plan-tenant-1') AS uuid)", UUID.class);
+        categoryId = jdbcTemplate.queryForObject("SELECT CAST(md5('plan-category-1-3') AS uuid)", UUID.class);
+    }
+
+    @Test
+    void unfilteredListingPagesNewestFirstOnCreatedAtIndex() {
+        String plan = explain(criteria(null, ProductSearchMode.LIKE, null, null, null, null));
+
+        assertThat(plan).contains("idx_products_tenant_created_id");
+    }
+
+    @Test
+    void categoryFilterUsesLiveCategoryPriceIndex() {
+        String plan = explain(criteria(null, ProductSearchMode.LIKE, categoryId, null, null, null));
+
+        assertThat(plan).contains("idx_products_tenant_category_price");
+    }
+
+    @Test
+    void categoryAndPriceRangeUseLiveCategoryPriceIndex() {
+        String plan = explain(criteria(
+            null, ProductSearchMode.LIKE, categoryId, new BigDecimal("100"), new BigDecimal("200"), null));
+
+        assertThat(plan).contains("idx_products_tenant_category_price");
+    }
+
+    @Test
+    void fullTextQueryUsesSearchVectorIndex() {
+        String plan = explain(criteria("zephyrine", ProductSearchMode.FULL_TEXT, null, null, null, null));
+
+        assertThat(plan).contains("idx_products_search_vector");
+    }
+
+    @Test
+    void fuzzyQueryUsesTrigramIndexes() {
+        String plan = explain(criteria("zephyrine", ProductSearchMode.FUZZY, null, null, null, null));
+
+        assertThat(plan).contains("idx_products_name_trgm", "idx_products_sku_trgm");
+    }
+
+    @Test
+    void newestKeysetUsesCreatedAtIndex() {
+        String plan = explainAfter(criteria(null, ProductSearchMode.FULL_TEXT, null, null, null, ProductSort.NEWEST));
+
+        assertThat(plan).contains("idx_products_tenant_created_id");
+    }
+
+    @Test
+    void priceKeysetUsesPriceIndexInBothDirections() {
+        String ascending = explainAfter(criteria(null, ProductSearchMode.FULL_TEXT, null, null, null, ProductSort.PRICE_ASC));
+        String descending = explainAfter(criteria(null, ProductSearchMode.FULL_TEXT, null, null, null, ProductSort.PRICE_DESC));
+
+        assertThat(ascending).contains("idx_products_tenant_price_id");
+        assertThat(descending).contains("idx_products_tenant_price_id");
+    }
+
+    @Test
+    void sellerListingUsesLiveSellerIndex() {
+        UUID sellerId = jdbcTemplate.queryForObject("SELECT CAST(md5('plan-seller-7') AS uuid)", UUID.class);
+        List<String> lines = jdbcTemplate.queryForList(
+            "EXPLAIN SELECT * FROM products p WHERE p.seller_id = ? AND p.tenant_id = ? AND p.deleted = false",
+            String.class, sellerId, tenantId);
+
+        assertThat(checked(lines)).contains("idx_products_seller_tenant_live");
+    }
+
+    private ProductSearchCriteria criteria(
+            String query,
+            ProductSearchMode mode,
+            UUID category,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            ProductSort sort) {
+        return ProductSearchCriteria.of(
+            tenantId, query, mode, category, minPrice, maxPrice, null, sort, null,
+            ProductCountMode.NONE, null, null, null, 0, 20);
+    }
+
+    private String explain(ProductSearchCriteria criteria) {
+        return checked(searchRepository.explainSearch(criteria, criteria.mode(), 0, criteria.size() + 1));
+    }
+
+    private String explainAfter(ProductSearchCriteria criteria) {
+        return checked(searchRepository.explainSearchAfter(criteria, criteria.size() + 1));
+    }
+
+    /**
+     * Whole plan as one string, after checking the properties every search plan must have
+     */
+    private static String checked(List<String> lines) {
+        String plan = String.join("\n", lines);
+        assertThat(plan)
+            .as("plan must not scan the whole products table:%n%s", plan)
+            .doesNotContain("Seq Scan on products");
+        // Only supplied filters are emitted; no catch-all ":param IS NULL OR ..." predicates
+        assertThat(plan).doesNotContain("IS NULL");
+        return plan;
+    }
+}
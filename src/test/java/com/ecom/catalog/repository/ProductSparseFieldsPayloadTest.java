@@ -0,0 +1,149 @@
+package com.ecom.catalog.repository;
+
+import com.ecom.catalog.PostgresTestSupport;
+import com.ecom.catalog.entity.Product;
+import com.ecom.catalog.model.request.ProductCountMode;
+import com.ecom.catalog.model.request.ProductField;
+import com.ecom.catalog.model.request.ProductSearchCriteria;
+import com.ecom.catalog.model.request.ProductSearchMode;
+import com.ecom.catalog.model.response.ProductResponse;
+import com.ecom.catalog.repository.projection.ProductFieldsRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload harness for sparse fieldsets ({@code fields=})
+ *
+ * <p>Reads the same search page in full and with a listing fieldset, serializes both
+ * the way the API does, and logs and checks the JSON size of each. Products are seeded
+ * with a realistic description and image list, which dominate the full representation.
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductSparseFieldsPayloadTest extends PostgresTestSupport {
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final Set<ProductField> LISTING_FIELDS =
+        EnumSet.of(ProductField.PRODUCT_ID, ProductField.NAME, ProductField.PRICE, ProductField.CURRENCY);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void seed() {
+        tenantId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO categories (id, name, tenant_id) VALUES (?, 'Lighting', ?)", categoryId, tenantId);
+        jdbcTemplate.update(
+            "INSERT INTO products (name, sku, description, price, currency, category_id, seller_id, tenant_id, " +
+            "images, status, deleted, created_at, updated_at) " +
+            "SELECT 'Desk lamp ' || i, 'LAMP-' || i, repeat('Adjustable arm, warm LED, dimmable in five steps. ', 12), " +
+            "19.99 + i, 'USD', ?, ?, ?, " +
+            "'[\"https://cdn.example.com/products/lamp-' || i || '-front.jpg\", " +
+            "\"https://cdn.example.com/products/lamp-' || i || '-side.jpg\", " +
+            "\"https://cdn.example.com/products/lamp-' || i || '-detail.jpg\"]', " +
+            "'ACTIVE', false, now(), now() FROM generate_series(1, ?) i",
+            categoryId, UUID.randomUUID(), tenantId, PAGE_SIZE);
+    }
+
+    @Test
+    void listingFieldsetShrinksSearchPayload() throws Exception {
+        List<ProductResponse> full = productRepository
+            .search(criteria(null), ProductSearchMode.LIKE, 0, PAGE_SIZE)
+            .stream().map(ProductSparseFieldsPayloadTest::toResponse).toList();
+        List<Map<String, Object>> sparse = productRepository
+            .searchFields(criteria(LISTING_FIELDS), ProductSearchMode.LIKE, 0, PAGE_SIZE)
+            .stream().map(row -> toFieldsResponse(row, LISTING_FIELDS)).toList();
+
+        int fullBytes = objectMapper.writeValueAsBytes(full).length;
+        int sparseBytes = objectMapper.writeValueAsBytes(sparse).length;
+        log.info("Search page of {} products: full {} bytes, fields={} {} bytes ({}% of full)",
+            PAGE_SIZE, fullBytes, ProductField.toParam(LISTING_FIELDS), sparseBytes, 100 * sparseBytes / fullBytes);
+
+        assertThat(sparse).hasSize(PAGE_SIZE);
+        assertThat(sparse.get(0)).containsOnlyKeys("product_id", "name", "price", "currency");
+        assertThat(sparseBytes).isLessThan(fullBytes / 5);
+    }
+
+    @Test
+    void sparseValuesMatchFullRepresentation() {
+        Map<UUID, ProductResponse> full = new LinkedHashMap<>();
+        productRepository.search(criteria(null), ProductSearchMode.LIKE, 0, PAGE_SIZE)
+            .forEach(product -> full.put(product.getId(), toResponse(product)));
+
+        for (ProductFieldsRow row : productRepository.searchFields(
+                criteria(LISTING_FIELDS), ProductSearchMode.LIKE, 0, PAGE_SIZE)) {
+            assertThat(toFieldsResponse(row, LISTING_FIELDS))
+                .isEqualTo(ProductField.select(full.get(row.id()), LISTING_FIELDS));
+        }
+    }
+
+    private ProductSearchCriteria criteria(Set<ProductField> fields) {
+        return ProductSearchCriteria.of(
+            tenantId, null, ProductSearchMode.LIKE, null, null, null, null, null, null,
+            ProductCountMode.NONE, null, fields, null, 0, PAGE_SIZE);
+    }
+
+    /**
+     * Same mapping as ProductServiceImpl for full results
+     */
+    private static ProductResponse toResponse(Product product) {
+        return new ProductResponse(
+            product.getId(),
+            product.getName(),
+            product.getSku(),
+            product.getDescription(),
+            product.getPrice(),
+            product.getCurrency(),
+            product.getCategoryId(),
+            product.getSellerId(),
+            ProductResponse.parseImages(product.getImages()),
+            product.getStatus(),
+            product.getCreatedAt(),
+            product.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Same mapping as ProductServiceImpl for sparse fieldset results
+     */
+    private static Map<String, Object> toFieldsResponse(ProductFieldsRow row, Set<ProductField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ProductField field : fields) {
+            Object value = row.values().get(field);
+            values.put(field.getJsonName(), field == ProductField.IMAGES
+                ? ProductResponse.parseImages((String) value)
+                : value);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,163 @@
+package com.ecom.catalog.service.impl;
+
+import com.ecom.catalog.PostgresTestSupport;
+import com.ecom.catalog.cache.CatalogVersion;
+import com.ecom.catalog.cache.CatalogVersionService;
+import com.ecom.catalog.cache.CategoryCache;
+import com.ecom.catalog.cache.CategoryTreeSnapshot;
+import com.ecom.catalog.cache.SingleFlight;
+import com.ecom.catalog.entity.Category;
+import com.ecom.catalog.model.response.CategoryResponse;
+import com.ecom.catalog.outbox.CatalogOutbox;
+import com.ecom.catalog.repository.CategoryRepository;
+import com.ecom.catalog.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Regression test for N+1 queries when mapping categories to responses
+ *
+ * <p>Counts JDBC statements with Hibernate statistics while the number of categories
+ * grows; the snapshot cache is bypassed so every call reads the database.
+ */
+@DataJpaTest(properties = {
+    "spring.cloud.config.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CategoryServiceImplQueryCountTest extends PostgresTestSupport {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CategoryServiceImpl categoryService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        CategoryCache categoryCache = mock(CategoryCache.class);
+        when(categoryCache.getSnapshot(any(), any())).thenAnswer(invocation ->
+            invocation.<Function<CatalogVersion, CategoryTreeSnapshot>>getArgument(1)
+                .apply(new CatalogVersion("test", 1, true)));
+        categoryService = new CategoryServiceImpl(
+            categoryRepository,
+            productRepository,
+            categoryCache,
+            mock(CatalogVersionService.class),
+            new SingleFlight(new SimpleMeterRegistry(), Duration.ofSeconds(5)),
+            mock(ApplicationEventPublisher.class),
+            mock(CatalogOutbox.class)
+        );
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllCategoriesQueryCountDoesNotGrowWithCategories() {
+        UUID smallTenant = createTree(5, 4);
+        UUID largeTenant = createTree(50, 20);
+
+        long smallQueries = countQueries(() -> assertThat(categoryService.getAllCategories(smallTenant)).hasSize(25));
+        long largeQueries = countQueries(() -> assertThat(categoryService.getAllCategories(largeTenant)).hasSize(1050));
+
+        assertThat(smallQueries).isEqualTo(1);
+        assertThat(largeQueries).isEqualTo(smallQueries);
+    }
+
+    @Test
+    void getAllCategoriesResolvesChildrenIds() {
+        UUID tenantId = createTree(2, 3);
+
+        List<CategoryResponse> categories = categoryService.getAllCategories(tenantId);
+
+        assertThat(categories.stream().filter(category -> category.parentId() == null))
+            .hasSize(2)
+            .allSatisfy(root -> assertThat(root.childrenIds()).hasSize(3));
+        assertThat(categories.stream().filter(category -> category.parentId() != null))
+            .allSatisfy(child -> assertThat(child.childrenIds()).isEmpty());
+    }
+
+    @Test
+    void getChildCategoriesQueryCountDoesNotGrowWithChildren() {
+        UUID smallTenant = createTree(1, 5);
+        UUID largeTenant = createTree(1, 500);
+        UUID smallRoot = rootOf(smallTenant);
+        UUID largeRoot = rootOf(largeTenant);
+
+        long smallQueries = countQueries(() ->
+            assertThat(categoryService.getChildCategories(smallRoot, smallTenant)).hasSize(5));
+        long largeQueries = countQueries(() ->
+            assertThat(categoryService.getChildCategories(largeRoot, largeTenant)).hasSize(500));
+
+        assertThat(largeQueries).isEqualTo(smallQueries);
+    }
+
+    /**
+     * Create {@code roots} top-level categories with {@code childrenPerRoot} children each
+     * in a new tenant, then detach everything so reads go to the database
+     */
+    private UUID createTree(int roots, int childrenPerRoot) {
+        UUID tenantId = UUID.randomUUID();
+        List<Category> parents = categoryRepository.saveAll(categories(tenantId, null, "Root", roots));
+        List<Category> children = new ArrayList<>();
+        for (Category parent : parents) {
+            children.addAll(categories(tenantId, parent.getId(), parent.getName() + " child", childrenPerRoot));
+        }
+        categoryRepository.saveAll(children);
+        entityManager.flush();
+        entityManager.clear();
+        return tenantId;
+    }
+
+    private static List<Category> categories(UUID tenantId, UUID parentId, String prefix, int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            categories.add(Category.builder()
+                .name(prefix + " " + i)
+                .parentId(parentId)
+                .tenantId(tenantId)
+                .build());
+        }
+        return categories;
+    }
+
+    private UUID rootOf(UUID tenantId) {
+        UUID rootId = categoryRepository.findByTenantId(tenantId).stream()
+            .filter(category -> category.getParentId() == null)
+            .findFirst()
+            .orElseThrow()
+            .getId();
+        entityManager.clear();
+        return rootId;
+    }
+
+    private long countQueries(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}